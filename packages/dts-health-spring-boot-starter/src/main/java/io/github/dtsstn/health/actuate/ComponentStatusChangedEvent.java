@@ -0,0 +1,47 @@
+package io.github.dtsstn.health.actuate;
+
+import org.springframework.context.ApplicationEvent;
+
+import io.github.dtsstn.health.core.HealthResult.ComponentHealthResult;
+import io.github.dtsstn.health.core.HealthResult.ComponentHealthResult.Status;
+import jakarta.annotation.Nullable;
+
+/**
+ * Event published when the health status of a single component changes.
+ */
+public class ComponentStatusChangedEvent extends ApplicationEvent {
+
+	private static final long serialVersionUID = 1L;
+
+	@Nullable
+	private final Status previousStatus;
+
+	/**
+	 * Creates a new {@code ComponentStatusChangedEvent}.
+	 *
+	 * @param componentHealthResult the result that reported the new status
+	 * @param previousStatus the previous status, or {@code null} if there was none
+	 */
+	public ComponentStatusChangedEvent(ComponentHealthResult componentHealthResult, @Nullable Status previousStatus) {
+		super(componentHealthResult);
+		this.previousStatus = previousStatus;
+	}
+
+	public ComponentHealthResult getComponentHealthResult() {
+		return (ComponentHealthResult) getSource();
+	}
+
+	public String getName() {
+		return getComponentHealthResult().getName();
+	}
+
+	@Nullable
+	public Status getPreviousStatus() {
+		return previousStatus;
+	}
+
+	public Status getStatus() {
+		return getComponentHealthResult().getStatus();
+	}
+
+}
@@ -0,0 +1,89 @@
+package io.github.dtsstn.health.actuate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.util.Assert;
+
+import io.github.dtsstn.health.checks.HttpHealthCheck;
+import io.github.dtsstn.health.checks.TcpHealthCheck;
+import io.github.dtsstn.health.core.HealthCheck;
+import io.github.dtsstn.health.core.HealthCheckRegistry;
+
+/**
+ * The HTTP and TCP health checks configured under {@code dts-health.checks.http.<name>} and
+ * {@code dts-health.checks.tcp.<name>}.
+ *
+ * <p>The health checks are created (and their settings validated) with this bean, and registered in the
+ * {@link HealthCheckRegistry} once all singletons, including the registry, have been created.</p>
+ */
+public class ConfiguredHealthChecks implements SmartInitializingSingleton {
+
+	static final Logger log = LoggerFactory.getLogger(ConfiguredHealthChecks.class);
+
+	private final List<HealthCheck> healthChecks;
+
+	private final ObjectProvider<HealthCheckRegistry> healthCheckRegistry;
+
+	/**
+	 * Creates a new {@code ConfiguredHealthChecks}.
+	 *
+	 * @param dtsHealthProperties the properties the health checks are configured in
+	 * @param healthCheckRegistry the registry the health checks are registered in, if available
+	 */
+	public ConfiguredHealthChecks(DtsHealthProperties dtsHealthProperties, ObjectProvider<HealthCheckRegistry> healthCheckRegistry) {
+		Assert.notNull(dtsHealthProperties, "'dtsHealthProperties' must not be null");
+		Assert.notNull(healthCheckRegistry, "'healthCheckRegistry' must not be null");
+
+		this.healthChecks = createHealthChecks(dtsHealthProperties);
+		this.healthCheckRegistry = healthCheckRegistry;
+	}
+
+	private static List<HealthCheck> createHealthChecks(DtsHealthProperties dtsHealthProperties) {
+		final var healthChecks = new ArrayList<HealthCheck>();
+		final var defaultTimeoutMillis = dtsHealthProperties.getDefaultTimeoutMillis();
+
+		dtsHealthProperties.getChecks().getHttp().forEach((name, http) -> {
+			Assert.notNull(http.getUrl(), () -> "'dts-health.checks.http." + name + ".url' must not be null");
+			final var timeout = Duration.ofMillis(http.getTimeoutMillis() != null ? http.getTimeoutMillis() : defaultTimeoutMillis);
+			healthChecks.add(new HttpHealthCheck(name, http.getUrl(), timeout));
+		});
+
+		dtsHealthProperties.getChecks().getTcp().forEach((name, tcp) -> {
+			final var timeout = Duration.ofMillis(tcp.getTimeoutMillis() != null ? tcp.getTimeoutMillis() : defaultTimeoutMillis);
+			healthChecks.add(new TcpHealthCheck(name, tcp.getHost(), tcp.getPort(), timeout));
+		});
+
+		return List.copyOf(healthChecks);
+	}
+
+	/**
+	 * Returns the configured health checks.
+	 *
+	 * @return the configured health checks
+	 */
+	public List<HealthCheck> getHealthChecks() {
+		return healthChecks;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		final var healthCheckRegistry = this.healthCheckRegistry.getIfAvailable();
+
+		if (healthCheckRegistry == null) {
+			if (!healthChecks.isEmpty()) { log.warn("No HealthCheckRegistry bean; configured health checks {} are not registered", healthChecks.stream().map(HealthCheck::getName).toList()); }
+			return;
+		}
+
+		healthChecks.forEach(healthCheck -> {
+			log.info("Registering configured health check [{}]", healthCheck.getName());
+			healthCheckRegistry.register(healthCheck);
+		});
+	}
+
+}
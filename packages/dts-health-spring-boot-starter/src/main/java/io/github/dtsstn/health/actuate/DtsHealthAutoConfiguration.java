@@ -1,36 +1,141 @@
 package io.github.dtsstn.health.actuate;
 
-import java.util.Collection;
+import java.nio.file.Path;
+import java.time.Duration;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.util.Assert;
 
 import io.github.dtsstn.health.core.HealthCheck;
+import io.github.dtsstn.health.core.HealthCheckExecutor;
 import io.github.dtsstn.health.core.HealthCheckManager;
+import io.github.dtsstn.health.core.HealthCheckRegistry;
+import io.github.dtsstn.health.core.HealthJournal;
+import io.github.dtsstn.health.core.HealthResultCodec;
+import io.github.dtsstn.health.core.HealthStatusListener;
+import io.github.dtsstn.health.core.ImmutableAdaptiveTimeoutOptions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 
 /**
  * Auto-configuration class for DTS Health indicators.
  */
 @AutoConfiguration
 @EnableConfigurationProperties(DtsHealthProperties.class)
+@ImportRuntimeHints(DtsHealthRuntimeHints.class)
 public class DtsHealthAutoConfiguration {
 
 	static final Logger log = LoggerFactory.getLogger(DtsHealthAutoConfiguration.class);
 
 	@ConditionalOnMissingBean
-	@Bean HealthCheckManager healthCheckManager() {
+	@Bean HealthCheckManager healthCheckManager(DtsHealthProperties dtsHealthProperties, ObjectProvider<ObservationRegistry> observationRegistry, ObjectProvider<MeterRegistry> meterRegistry, ObjectProvider<HealthStatusListener> statusListeners, ObjectProvider<HealthCheckExecutor> healthCheckExecutor, ObjectProvider<HealthJournal> healthJournal) {
 		log.info("Creating 'healthCheckManager' bean");
-		return new HealthCheckManager();
+		final var healthCheckManager = new HealthCheckManager();
+		healthCheckManager.setRecordStuckLocations(dtsHealthProperties.isRecordStuckLocations());
+		healthCheckManager.setFlightRecorderEvents(dtsHealthProperties.isFlightRecorderEvents());
+		healthCheckManager.setStatusListeners(statusListeners.orderedStream().toList());
+		healthCheckManager.setHealthCheckExecutor(healthCheckExecutor.getIfAvailable());
+		healthCheckManager.setHealthJournal(healthJournal.getIfAvailable());
+
+		if (dtsHealthProperties.getMetadataCache().isEnabled()) {
+			final var refreshIntervalMillis = dtsHealthProperties.getMetadataCache().getRefreshIntervalMillis();
+			healthCheckManager.setCacheMetadata(true);
+			healthCheckManager.setMetadataRefreshInterval(refreshIntervalMillis != null ? Duration.ofMillis(refreshIntervalMillis) : null);
+		}
+
+		if (dtsHealthProperties.getMaxComponentsPerRequest() != null) {
+			healthCheckManager.setMaxComponentsPerRequest(dtsHealthProperties.getMaxComponentsPerRequest());
+		}
+
+		if (dtsHealthProperties.getAdaptiveTimeouts().isEnabled()) {
+			final var adaptiveTimeouts = dtsHealthProperties.getAdaptiveTimeouts();
+			healthCheckManager.setAdaptiveTimeoutOptions(ImmutableAdaptiveTimeoutOptions.builder()
+					.multiplier(adaptiveTimeouts.getMultiplier())
+					.minTimeoutMillis(adaptiveTimeouts.getMinTimeoutMillis())
+					.maxTimeoutMillis(adaptiveTimeouts.getMaxTimeoutMillis())
+					.minSamples(adaptiveTimeouts.getMinSamples())
+					.build());
+		}
+
+		if (!dtsHealthProperties.getHedging().getComponents().isEmpty()) {
+			healthCheckManager.setHedgedComponents(dtsHealthProperties.getHedging().getComponents());
+			healthCheckManager.setHedgingMinSamples(dtsHealthProperties.getHedging().getMinSamples());
+			healthCheckManager.setMeterRegistry(meterRegistry.getIfAvailable());
+		}
+
+		if (dtsHealthProperties.getTracing().isEnabled()) {
+			healthCheckManager.setObservationRegistry(observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+			healthCheckManager.setPropagateTraceContext(dtsHealthProperties.getTracing().isPropagateContext());
+		}
+
+		return healthCheckManager;
+	}
+
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(name = "dts-health.scheduling.enabled", havingValue = "true")
+	@Bean HealthCheckExecutor healthCheckExecutor(DtsHealthProperties dtsHealthProperties) {
+		log.info("Creating 'healthCheckExecutor' bean");
+		return new HealthCheckExecutor(dtsHealthProperties.getScheduling().getThreads(), dtsHealthProperties.getScheduling().getCriticalThreads());
 	}
 
 	@ConditionalOnMissingBean
-	@Bean DtsHealthEndpoint dtsHealthEndpoint(DtsHealthProperties dtsHealthProperties, HealthCheckManager healthCheckManager, Collection<HealthCheck> healthChecks) {
+	@ConditionalOnProperty(name = "dts-health.journal.enabled", havingValue = "true")
+	@Bean HealthJournal healthJournal(DtsHealthProperties dtsHealthProperties) {
+		log.info("Creating 'healthJournal' bean");
+		final var journal = dtsHealthProperties.getJournal();
+		// no default in the shared temporary directory, where another user (or application) could own the file
+		Assert.hasText(journal.getPath(), "'dts-health.journal.path' must not be empty when the journal is enabled");
+		return HealthJournal.open(Path.of(journal.getPath()), journal.getCapacity());
+	}
+
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(name = "dts-health.journal.enabled", havingValue = "true")
+	@Bean DtsHealthJournalEndpoint dtsHealthJournalEndpoint(DtsHealthProperties dtsHealthProperties, HealthJournal healthJournal) {
+		log.info("Creating 'dtsHealthJournalEndpoint' bean");
+		return new DtsHealthJournalEndpoint(dtsHealthProperties, healthJournal);
+	}
+
+	@ConditionalOnMissingBean
+	@Bean HealthResultCodec healthResultCodec() {
+		log.info("Creating 'healthResultCodec' bean");
+		return new HealthResultCodec();
+	}
+
+	@ConditionalOnMissingBean
+	@Bean HealthCheckRegistry healthCheckRegistry(ObjectProvider<HealthCheck> healthChecks, ObjectProvider<HealthCheckManager> healthCheckManager) {
+		log.info("Creating 'healthCheckRegistry' bean");
+		final var healthCheckRegistry = new HealthCheckRegistry(healthChecks.orderedStream().toList());
+		healthCheckManager.ifAvailable(manager -> healthCheckRegistry.addUnregistrationListener(healthCheck -> manager.forget(healthCheck.getName())));
+		return healthCheckRegistry;
+	}
+
+	@ConditionalOnMissingBean
+	@Bean DtsHealthEndpoint dtsHealthEndpoint(DtsHealthProperties dtsHealthProperties, HealthCheckManager healthCheckManager, HealthCheckRegistry healthCheckRegistry, HealthResultCodec healthResultCodec) {
 		log.info("Creating 'dtsHealthEndpoint' bean");
-		return new DtsHealthEndpoint(dtsHealthProperties, healthCheckManager, healthChecks);
+		return new DtsHealthEndpoint(dtsHealthProperties, healthCheckManager, healthCheckRegistry, healthResultCodec);
+	}
+
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(name = "dts-health.publish-status-events", havingValue = "true")
+	@Bean HealthStatusEventPublisher healthStatusEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+		log.info("Creating 'healthStatusEventPublisher' bean");
+		return new HealthStatusEventPublisher(applicationEventPublisher);
+	}
+
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(name = "dts-health.warmup.enabled", havingValue = "true")
+	@Bean HealthCheckWarmup healthCheckWarmup(DtsHealthProperties dtsHealthProperties, HealthCheckManager healthCheckManager, HealthCheckRegistry healthCheckRegistry) {
+		log.info("Creating 'healthCheckWarmup' bean");
+		return new HealthCheckWarmup(dtsHealthProperties, healthCheckManager, healthCheckRegistry);
 	}
 
 }
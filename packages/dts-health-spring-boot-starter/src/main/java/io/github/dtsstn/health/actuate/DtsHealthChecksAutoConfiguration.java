@@ -0,0 +1,104 @@
+package io.github.dtsstn.health.actuate;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import io.github.dtsstn.health.checks.DataSourceHealthCheck;
+import io.github.dtsstn.health.checks.GcPauseHealthCheck;
+import io.github.dtsstn.health.checks.HeapOccupancyHealthCheck;
+import io.github.dtsstn.health.checks.RequestLoadFilter;
+import io.github.dtsstn.health.checks.RequestLoadHealthCheck;
+import io.github.dtsstn.health.checks.ThreadPoolSaturationHealthCheck;
+import io.github.dtsstn.health.core.HealthCheckRegistry;
+
+/**
+ * Auto-configuration class for the built-in DTS health checks.
+ */
+@AutoConfiguration(afterName = "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration")
+@EnableConfigurationProperties(DtsHealthProperties.class)
+public class DtsHealthChecksAutoConfiguration {
+
+	static final Logger log = LoggerFactory.getLogger(DtsHealthChecksAutoConfiguration.class);
+
+	@ConditionalOnMissingBean
+	@ConditionalOnSingleCandidate(DataSource.class)
+	@ConditionalOnProperty(name = "dts-health.checks.datasource.enabled", havingValue = "true")
+	@Bean DataSourceHealthCheck dataSourceHealthCheck(DtsHealthProperties dtsHealthProperties, DataSource dataSource) {
+		log.info("Creating 'dataSourceHealthCheck' bean");
+		final var timeout = Duration.ofMillis(dtsHealthProperties.getDefaultTimeoutMillis());
+		return new DataSourceHealthCheck(dtsHealthProperties.getChecks().getDatasource().getName(), dataSource, timeout);
+	}
+
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(name = "dts-health.checks.jvm.enabled", havingValue = "true")
+	@Bean HeapOccupancyHealthCheck heapOccupancyHealthCheck(DtsHealthProperties dtsHealthProperties) {
+		log.info("Creating 'heapOccupancyHealthCheck' bean");
+		return new HeapOccupancyHealthCheck("heap", dtsHealthProperties.getChecks().getJvm().getMaxHeapOccupancy());
+	}
+
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(name = "dts-health.checks.jvm.enabled", havingValue = "true")
+	@Bean GcPauseHealthCheck gcPauseHealthCheck(DtsHealthProperties dtsHealthProperties) {
+		log.info("Creating 'gcPauseHealthCheck' bean");
+		return new GcPauseHealthCheck("gc", dtsHealthProperties.getChecks().getJvm().getMaxGcPauseRatio());
+	}
+
+	@ConditionalOnMissingBean(name = "tomcatThreadPoolHealthCheck")
+	@ConditionalOnClass(name = "org.apache.catalina.startup.Tomcat")
+	@ConditionalOnWebApplication(type = Type.SERVLET)
+	@ConditionalOnProperty(name = "dts-health.checks.tomcat.enabled", havingValue = "true")
+	@Bean ThreadPoolSaturationHealthCheck tomcatThreadPoolHealthCheck(DtsHealthProperties dtsHealthProperties) {
+		log.info("Creating 'tomcatThreadPoolHealthCheck' bean");
+		final var tomcat = dtsHealthProperties.getChecks().getTomcat();
+		return ThreadPoolSaturationHealthCheck.forTomcat(tomcat.getName(), tomcat.getMaxUtilization());
+	}
+
+	@ConditionalOnMissingBean
+	@Bean ConfiguredHealthChecks configuredHealthChecks(DtsHealthProperties dtsHealthProperties, ObjectProvider<HealthCheckRegistry> healthCheckRegistry) {
+		log.info("Creating 'configuredHealthChecks' bean");
+		return new ConfiguredHealthChecks(dtsHealthProperties, healthCheckRegistry);
+	}
+
+	/**
+	 * Tracks the servlet requests of the application, so that it reports itself as unhealthy (and stops receiving
+	 * traffic once its readiness depends on it) while it is overloaded.
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnWebApplication(type = Type.SERVLET)
+	@ConditionalOnProperty(name = "dts-health.checks.request-load.enabled", havingValue = "true")
+	static class RequestLoadConfiguration {
+
+		@ConditionalOnMissingBean
+		@Bean RequestLoadHealthCheck requestLoadHealthCheck(DtsHealthProperties dtsHealthProperties) {
+			log.info("Creating 'requestLoadHealthCheck' bean");
+			final var requestLoad = dtsHealthProperties.getChecks().getRequestLoad();
+			return new RequestLoadHealthCheck(requestLoad.getName(), requestLoad.getMaxInFlight(), requestLoad.getMaxResponseTimeMillis(), requestLoad.getRecoveryRatio(), requestLoad.getAlpha());
+		}
+
+		@Bean FilterRegistrationBean<RequestLoadFilter> requestLoadFilter(DtsHealthProperties dtsHealthProperties, RequestLoadHealthCheck requestLoadHealthCheck) {
+			log.info("Creating 'requestLoadFilter' bean");
+			final var filterRegistrationBean = new FilterRegistrationBean<>(new RequestLoadFilter(requestLoadHealthCheck, dtsHealthProperties.getChecks().getRequestLoad().getExcludedPaths()));
+			filterRegistrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+			return filterRegistrationBean;
+		}
+
+	}
+
+}
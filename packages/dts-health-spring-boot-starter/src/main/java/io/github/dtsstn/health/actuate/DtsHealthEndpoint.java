@@ -14,7 +14,9 @@ import org.springframework.util.Assert;
 
 import io.github.dtsstn.health.core.HealthCheck;
 import io.github.dtsstn.health.core.HealthCheckManager;
+import io.github.dtsstn.health.core.HealthCheckRegistry;
 import io.github.dtsstn.health.core.HealthResult;
+import io.github.dtsstn.health.core.HealthResultCodec;
 import io.github.dtsstn.health.core.ImmutableHealthCheckOptions;
 
 /**
@@ -27,37 +29,68 @@ public class DtsHealthEndpoint {
 
 	private final HealthCheckManager healthCheckManager;
 
-	private final Collection<HealthCheck> healthChecks;
+	private final HealthCheckRegistry healthCheckRegistry;
+
+	private final HealthResultCodec healthResultCodec;
 
 	/**
 	 * Creates a new {@code DtsHealthEndpoint}.
 	 *
 	 * @param dtsHealthProperties the properties for configuring health checks
 	 * @param healthCheckManager the manager responsible for executing and aggregating health check results
-	 * @param healthChecks the collection of health checks to execute
+	 * @param healthCheckRegistry the registry of health checks to execute
 	 */
-	public DtsHealthEndpoint(DtsHealthProperties dtsHealthProperties, HealthCheckManager healthCheckManager, Collection<HealthCheck> healthChecks) {
+	public DtsHealthEndpoint(DtsHealthProperties dtsHealthProperties, HealthCheckManager healthCheckManager, HealthCheckRegistry healthCheckRegistry) {
+		this(dtsHealthProperties, healthCheckManager, healthCheckRegistry, new HealthResultCodec());
+	}
+
+	/**
+	 * Creates a new {@code DtsHealthEndpoint}.
+	 *
+	 * @param dtsHealthProperties the properties for configuring health checks
+	 * @param healthCheckManager the manager responsible for executing and aggregating health check results
+	 * @param healthCheckRegistry the registry of health checks to execute
+	 * @param healthResultCodec the codec used to encode binary health results
+	 */
+	public DtsHealthEndpoint(DtsHealthProperties dtsHealthProperties, HealthCheckManager healthCheckManager, HealthCheckRegistry healthCheckRegistry, HealthResultCodec healthResultCodec) {
 		Assert.notNull(dtsHealthProperties, "'dtsHealthProperties' must not be null");
 		Assert.notNull(healthCheckManager, "'healthCheckManager' must not be null");
-		Assert.notNull(healthChecks, "'healthChecks' must not be null");
+		Assert.notNull(healthCheckRegistry, "'healthCheckRegistry' must not be null");
+		Assert.notNull(healthResultCodec, "'healthResultCodec' must not be null");
 
 		this.dtsHealthProperties = dtsHealthProperties;
 		this.healthCheckManager = healthCheckManager;
-		this.healthChecks = healthChecks;
+		this.healthCheckRegistry = healthCheckRegistry;
+		this.healthResultCodec = healthResultCodec;
+	}
+
+	/**
+	 * Creates a new {@code DtsHealthEndpoint} for a fixed collection of health checks.
+	 *
+	 * @param dtsHealthProperties the properties for configuring health checks
+	 * @param healthCheckManager the manager responsible for executing and aggregating health check results
+	 * @param healthChecks the collection of health checks to execute
+	 * @deprecated in favour of {@link #DtsHealthEndpoint(DtsHealthProperties, HealthCheckManager, HealthCheckRegistry)}
+	 */
+	@Deprecated
+	public DtsHealthEndpoint(DtsHealthProperties dtsHealthProperties, HealthCheckManager healthCheckManager, Collection<HealthCheck> healthChecks) {
+		this(dtsHealthProperties, healthCheckManager, new HealthCheckRegistry(healthChecks));
 	}
 
 	/**
 	 * Performs a health check with optional component inclusion, exclusion, and timeout settings.
 	 *
 	 * @param securityContext the security context for the current request
+	 * @param format the format of the response body, negotiated from the {@code Accept} header
 	 * @param includeComponents the components to include in the health check; if null or empty, all components are included
 	 * @param excludeComponents the components to exclude from the health check; any matching component will not be included
 	 * @param timeoutMs the timeout for the health check in milliseconds
 	 * @param level the detail level of the health check result (currently only "detailed" level is accepted)
-	 * @return a {@link WebEndpointResponse} containing the health result and the corresponding HTTP status
+	 * @return a {@link WebEndpointResponse} containing the health result (or its CBOR encoding) and the corresponding HTTP status
 	 */
-	@ReadOperation(produces = HealthResult.CONTENT_TYPE)
-	public WebEndpointResponse<HealthResult> health(SecurityContext securityContext,
+	@ReadOperation(producesFrom = HealthResultFormat.class)
+	public WebEndpointResponse<?> health(SecurityContext securityContext,
+			HealthResultFormat format,
 			@Nullable Collection<String> includeComponents,
 			@Nullable Collection<String> excludeComponents,
 			@Nullable Long timeoutMs,
@@ -71,9 +104,16 @@ public class DtsHealthEndpoint {
 				.buildId(dtsHealthProperties.getBuildId())
 				.build();
 
+		// named components are looked up directly, so that a request for a few components does not scan the whole registry
+		final var healthChecks = healthCheckRegistry.getHealthChecks(healthCheckOptions.getIncludeComponents());
 		final var healthResult = healthCheckManager.executeChecks(healthChecks, healthCheckOptions);
 
-		return new WebEndpointResponse<>(healthResult, healthResult.getStatus().getHttpStatus());
+		final var httpStatus = healthResult.getStatus().getHttpStatus();
+
+		return switch (format) {
+			case CBOR -> new WebEndpointResponse<>(healthResultCodec.encode(healthResult), httpStatus, format.getProducedMimeType());
+			case JSON -> new WebEndpointResponse<>(healthResult, httpStatus, format.getProducedMimeType());
+		};
 	}
 
 	/**
@@ -0,0 +1,75 @@
+package io.github.dtsstn.health.actuate;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.SecurityContext;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import io.github.dtsstn.health.core.HealthJournal;
+import io.github.dtsstn.health.core.HealthJournalEntry;
+
+/**
+ * Spring Actuator endpoint exposing the health history kept in a {@link HealthJournal}, including the history written
+ * before the last restart.
+ *
+ * <p>The journal names every component and its status, so it is only returned to callers who may see the details of
+ * the {@link DtsHealthEndpoint} ({@code dts-health.show-details} and {@code dts-health.roles}); other callers are
+ * refused with {@code 403 Forbidden}.</p>
+ */
+@Endpoint(id = "dtshealthjournal")
+public class DtsHealthJournalEndpoint {
+
+	static final int STATUS_FORBIDDEN = 403;
+
+	private final DtsHealthProperties dtsHealthProperties;
+
+	private final HealthJournal healthJournal;
+
+	/**
+	 * Creates a new {@code DtsHealthJournalEndpoint}.
+	 *
+	 * @param dtsHealthProperties the properties deciding who may see the journal
+	 * @param healthJournal the journal to expose
+	 */
+	public DtsHealthJournalEndpoint(DtsHealthProperties dtsHealthProperties, HealthJournal healthJournal) {
+		Assert.notNull(dtsHealthProperties, "'dtsHealthProperties' must not be null");
+		Assert.notNull(healthJournal, "'healthJournal' must not be null");
+
+		this.dtsHealthProperties = dtsHealthProperties;
+		this.healthJournal = healthJournal;
+	}
+
+	/**
+	 * Returns the most recent entries of the journal, oldest first.
+	 *
+	 * @param securityContext the security context for the current request
+	 * @param limit the maximum number of entries to return; if null, all entries are returned
+	 * @return a {@link WebEndpointResponse} containing the journal entries, or an empty response with
+	 *         {@code 403 Forbidden} if the caller may not see the details of the health endpoint
+	 */
+	@ReadOperation
+	public WebEndpointResponse<List<HealthJournalEntry>> journal(SecurityContext securityContext, @Nullable Integer limit) {
+		if (!isShown(securityContext)) { return new WebEndpointResponse<>(STATUS_FORBIDDEN); }
+
+		final var entries = healthJournal.getEntries();
+
+		if (limit == null || limit >= entries.size()) { return new WebEndpointResponse<>(entries); }
+
+		return new WebEndpointResponse<>(entries.subList(entries.size() - Math.max(0, limit), entries.size()));
+	}
+
+	/**
+	 * Determines whether the journal may be shown to the caller.
+	 *
+	 * @param securityContext the security context for the current request, used to check if the user has the required roles
+	 * @return {@code true} if the details of the health endpoint are shown to the caller; {@code false} otherwise
+	 */
+	protected boolean isShown(SecurityContext securityContext) {
+		return dtsHealthProperties.getShowDetails().isShown(securityContext, dtsHealthProperties.getRoles());
+	}
+
+}
@@ -2,7 +2,11 @@ package io.github.dtsstn.health.actuate;
 
 import static org.springframework.boot.actuate.endpoint.Show.WHEN_AUTHORIZED;
 
+import java.net.URI;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.springframework.boot.actuate.endpoint.Show;
@@ -24,6 +28,27 @@ public class DtsHealthProperties {
 	 */
 	private Long defaultTimeoutMillis = 10000L;
 
+	/**
+	 * Whether to emit JDK Flight Recorder events for health check executions.
+	 */
+	private boolean flightRecorderEvents = false;
+
+	/**
+	 * Whether to count, per component, the top stack frame of health checks that time out.
+	 */
+	private boolean recordStuckLocations = false;
+
+	/**
+	 * The maximum number of components executed per request; the last known results of the others are served. When
+	 * not set, every included component is executed.
+	 */
+	private Integer maxComponentsPerRequest;
+
+	/**
+	 * Whether to publish application events when the status of a component, or the aggregate status, changes.
+	 */
+	private boolean publishStatusEvents = false;
+
 	/**
 	 * Roles used to determine whether a user is authorized to be shown details.
 	 * When empty, all authenticated users are authorized.
@@ -40,6 +65,46 @@ public class DtsHealthProperties {
 	 */
 	private String version;
 
+	/**
+	 * Startup warm-up settings.
+	 */
+	private final Warmup warmup = new Warmup();
+
+	/**
+	 * Tracing settings.
+	 */
+	private final Tracing tracing = new Tracing();
+
+	/**
+	 * Built-in health check settings.
+	 */
+	private final Checks checks = new Checks();
+
+	/**
+	 * Adaptive timeout settings.
+	 */
+	private final AdaptiveTimeouts adaptiveTimeouts = new AdaptiveTimeouts();
+
+	/**
+	 * Hedged execution configuration.
+	 */
+	private final Hedging hedging = new Hedging();
+
+	/**
+	 * Priority scheduling configuration.
+	 */
+	private final Scheduling scheduling = new Scheduling();
+
+	/**
+	 * Health check metadata caching configuration.
+	 */
+	private final MetadataCache metadataCache = new MetadataCache();
+
+	/**
+	 * Health history journal configuration.
+	 */
+	private final Journal journal = new Journal();
+
 	public String getBuildId() {
 		return this.buildId;
 	}
@@ -56,6 +121,38 @@ public class DtsHealthProperties {
 		this.defaultTimeoutMillis = defaultTimeoutMillis;
 	}
 
+	public boolean isFlightRecorderEvents() {
+		return this.flightRecorderEvents;
+	}
+
+	public void setFlightRecorderEvents(boolean flightRecorderEvents) {
+		this.flightRecorderEvents = flightRecorderEvents;
+	}
+
+	public boolean isRecordStuckLocations() {
+		return this.recordStuckLocations;
+	}
+
+	public void setRecordStuckLocations(boolean recordStuckLocations) {
+		this.recordStuckLocations = recordStuckLocations;
+	}
+
+	public Integer getMaxComponentsPerRequest() {
+		return this.maxComponentsPerRequest;
+	}
+
+	public void setMaxComponentsPerRequest(Integer maxComponentsPerRequest) {
+		this.maxComponentsPerRequest = maxComponentsPerRequest;
+	}
+
+	public boolean isPublishStatusEvents() {
+		return this.publishStatusEvents;
+	}
+
+	public void setPublishStatusEvents(boolean publishStatusEvents) {
+		this.publishStatusEvents = publishStatusEvents;
+	}
+
 	public Set<String> getRoles() {
 		return this.roles;
 	}
@@ -80,4 +177,698 @@ public class DtsHealthProperties {
 		this.version = version;
 	}
 
+	public Warmup getWarmup() {
+		return this.warmup;
+	}
+
+	public Tracing getTracing() {
+		return this.tracing;
+	}
+
+	public Checks getChecks() {
+		return this.checks;
+	}
+
+	public AdaptiveTimeouts getAdaptiveTimeouts() {
+		return this.adaptiveTimeouts;
+	}
+
+	public Hedging getHedging() {
+		return this.hedging;
+	}
+
+	public Scheduling getScheduling() {
+		return this.scheduling;
+	}
+
+	public MetadataCache getMetadataCache() {
+		return this.metadataCache;
+	}
+
+	public Journal getJournal() {
+		return this.journal;
+	}
+
+	/**
+	 * Configuration properties for executing all health checks once at startup, before readiness is reported.
+	 */
+	public static class Warmup {
+
+		/**
+		 * Whether to execute all health checks once when the application is ready.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Timeout in milliseconds for the warm-up execution. When not set, the default timeout is used.
+		 */
+		private Long timeoutMillis;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Long getTimeoutMillis() {
+			return this.timeoutMillis;
+		}
+
+		public void setTimeoutMillis(Long timeoutMillis) {
+			this.timeoutMillis = timeoutMillis;
+		}
+
+	}
+
+	/**
+	 * Configuration properties for observing (tracing) health check executions.
+	 */
+	public static class Tracing {
+
+		/**
+		 * Whether to create observations for health check executions.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Whether to propagate the trace context into the calls made by health checks.
+		 */
+		private boolean propagateContext = false;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public boolean isPropagateContext() {
+			return this.propagateContext;
+		}
+
+		public void setPropagateContext(boolean propagateContext) {
+			this.propagateContext = propagateContext;
+		}
+
+	}
+
+	/**
+	 * Configuration properties for adapting each component's timeout to its observed latency.
+	 */
+	public static class AdaptiveTimeouts {
+
+		/**
+		 * Whether to adapt each component's timeout to its observed latency.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * The factor applied to a component's observed p99 latency to obtain its timeout.
+		 */
+		private double multiplier = 3.0;
+
+		/**
+		 * The lower bound of an adapted timeout, in milliseconds.
+		 */
+		private long minTimeoutMillis = 100;
+
+		/**
+		 * The upper bound of an adapted timeout, in milliseconds.
+		 */
+		private long maxTimeoutMillis = 10000;
+
+		/**
+		 * The number of executions of a component observed before its timeout adapts.
+		 */
+		private int minSamples = 20;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public double getMultiplier() {
+			return this.multiplier;
+		}
+
+		public void setMultiplier(double multiplier) {
+			this.multiplier = multiplier;
+		}
+
+		public long getMinTimeoutMillis() {
+			return this.minTimeoutMillis;
+		}
+
+		public void setMinTimeoutMillis(long minTimeoutMillis) {
+			this.minTimeoutMillis = minTimeoutMillis;
+		}
+
+		public long getMaxTimeoutMillis() {
+			return this.maxTimeoutMillis;
+		}
+
+		public void setMaxTimeoutMillis(long maxTimeoutMillis) {
+			this.maxTimeoutMillis = maxTimeoutMillis;
+		}
+
+		public int getMinSamples() {
+			return this.minSamples;
+		}
+
+		public void setMinSamples(int minSamples) {
+			this.minSamples = minSamples;
+		}
+
+	}
+
+	/**
+	 * Configuration properties for hedging slow components with a second, parallel attempt.
+	 */
+	public static class Hedging {
+
+		/**
+		 * The names of the components to hedge once they exceed their observed p95 latency.
+		 */
+		private Set<String> components = new HashSet<>();
+
+		/**
+		 * The number of executions of a component observed before it is hedged.
+		 */
+		private int minSamples = 20;
+
+		public Set<String> getComponents() {
+			return this.components;
+		}
+
+		public void setComponents(Set<String> components) {
+			this.components = components;
+		}
+
+		public int getMinSamples() {
+			return this.minSamples;
+		}
+
+		public void setMinSamples(int minSamples) {
+			this.minSamples = minSamples;
+		}
+
+	}
+
+	/**
+	 * Configuration properties for running health checks on dedicated threads, by priority.
+	 */
+	public static class Scheduling {
+
+		/**
+		 * Whether to run health checks on dedicated threads, by priority, instead of the common pool.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * The number of threads shared by all health checks.
+		 */
+		private int threads = 8;
+
+		/**
+		 * The number of additional threads reserved for critical health checks.
+		 */
+		private int criticalThreads = 2;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getThreads() {
+			return this.threads;
+		}
+
+		public void setThreads(int threads) {
+			this.threads = threads;
+		}
+
+		public int getCriticalThreads() {
+			return this.criticalThreads;
+		}
+
+		public void setCriticalThreads(int criticalThreads) {
+			this.criticalThreads = criticalThreads;
+		}
+
+	}
+
+	/**
+	 * Configuration properties for caching the metadata of health checks.
+	 */
+	public static class MetadataCache {
+
+		/**
+		 * Whether to cache the metadata of health checks instead of obtaining it on every detailed request.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * How long cached metadata is used before it is obtained again, in milliseconds. When not set, cached metadata
+		 * is used until it is invalidated.
+		 */
+		private Long refreshIntervalMillis;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Long getRefreshIntervalMillis() {
+			return this.refreshIntervalMillis;
+		}
+
+		public void setRefreshIntervalMillis(Long refreshIntervalMillis) {
+			this.refreshIntervalMillis = refreshIntervalMillis;
+		}
+
+	}
+
+	/**
+	 * Configuration properties for the memory-mapped journal of component statuses and response times.
+	 */
+	public static class Journal {
+
+		/**
+		 * Whether to journal the status and response time of every executed component.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * The path of the journal file, required when the journal is enabled. It should be on a volume that survives
+		 * restarts, and be specific to the application: the file is locked while the application runs.
+		 */
+		private String path;
+
+		/**
+		 * The number of samples kept; once reached, each new sample overwrites the oldest one.
+		 */
+		private int capacity = 10000;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public String getPath() {
+			return this.path;
+		}
+
+		public void setPath(String path) {
+			this.path = path;
+		}
+
+		public int getCapacity() {
+			return this.capacity;
+		}
+
+		public void setCapacity(int capacity) {
+			this.capacity = capacity;
+		}
+
+	}
+
+	/**
+	 * Configuration properties for the built-in health checks.
+	 */
+	public static class Checks {
+
+		/**
+		 * Data source health check settings.
+		 */
+		private final DataSource datasource = new DataSource();
+
+		/**
+		 * JVM saturation health check settings.
+		 */
+		private final Jvm jvm = new Jvm();
+
+		/**
+		 * Tomcat worker pool saturation health check settings.
+		 */
+		private final Tomcat tomcat = new Tomcat();
+
+		/**
+		 * Request load (overload) health check settings.
+		 */
+		private final RequestLoad requestLoad = new RequestLoad();
+
+		/**
+		 * HTTP health checks, by component name.
+		 */
+		private final Map<String, Http> http = new LinkedHashMap<>();
+
+		/**
+		 * TCP health checks, by component name.
+		 */
+		private final Map<String, Tcp> tcp = new LinkedHashMap<>();
+
+		public DataSource getDatasource() {
+			return this.datasource;
+		}
+
+		public Jvm getJvm() {
+			return this.jvm;
+		}
+
+		public Tomcat getTomcat() {
+			return this.tomcat;
+		}
+
+		public RequestLoad getRequestLoad() {
+			return this.requestLoad;
+		}
+
+		public Map<String, Http> getHttp() {
+			return this.http;
+		}
+
+		public Map<String, Tcp> getTcp() {
+			return this.tcp;
+		}
+
+		/**
+		 * Configuration properties for the auto-configured data source health check.
+		 */
+		public static class DataSource {
+
+			/**
+			 * Whether to register a health check for the application's data source.
+			 */
+			private boolean enabled = false;
+
+			/**
+			 * The component name of the data source health check.
+			 */
+			private String name = "database";
+
+			public boolean isEnabled() {
+				return this.enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public String getName() {
+				return this.name;
+			}
+
+			public void setName(String name) {
+				this.name = name;
+			}
+
+		}
+
+		/**
+		 * Configuration properties for an auto-configured HTTP health check.
+		 */
+		public static class Http {
+
+			/**
+			 * The URL to send a HEAD request to.
+			 */
+			private URI url;
+
+			/**
+			 * The maximum time a request may take, in milliseconds. Defaults to the default timeout.
+			 */
+			private Long timeoutMillis;
+
+			public URI getUrl() {
+				return this.url;
+			}
+
+			public void setUrl(URI url) {
+				this.url = url;
+			}
+
+			public Long getTimeoutMillis() {
+				return this.timeoutMillis;
+			}
+
+			public void setTimeoutMillis(Long timeoutMillis) {
+				this.timeoutMillis = timeoutMillis;
+			}
+
+		}
+
+		/**
+		 * Configuration properties for an auto-configured TCP health check.
+		 */
+		public static class Tcp {
+
+			/**
+			 * The host to connect to.
+			 */
+			private String host;
+
+			/**
+			 * The port to connect to.
+			 */
+			private int port;
+
+			/**
+			 * The maximum time a connection attempt may take, in milliseconds. Defaults to the default timeout.
+			 */
+			private Long timeoutMillis;
+
+			public String getHost() {
+				return this.host;
+			}
+
+			public void setHost(String host) {
+				this.host = host;
+			}
+
+			public int getPort() {
+				return this.port;
+			}
+
+			public void setPort(int port) {
+				this.port = port;
+			}
+
+			public Long getTimeoutMillis() {
+				return this.timeoutMillis;
+			}
+
+			public void setTimeoutMillis(Long timeoutMillis) {
+				this.timeoutMillis = timeoutMillis;
+			}
+
+		}
+
+		/**
+		 * Configuration properties for the auto-configured JVM saturation health checks.
+		 */
+		public static class Jvm {
+
+			/**
+			 * Whether to register health checks for heap occupancy and GC pause time.
+			 */
+			private boolean enabled = false;
+
+			/**
+			 * The maximum fraction of the long-lived heap that may be in use after garbage collection.
+			 */
+			private double maxHeapOccupancy = 0.9;
+
+			/**
+			 * The maximum fraction of time that may recently have been spent paused for garbage collection.
+			 */
+			private double maxGcPauseRatio = 0.1;
+
+			public boolean isEnabled() {
+				return this.enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public double getMaxHeapOccupancy() {
+				return this.maxHeapOccupancy;
+			}
+
+			public void setMaxHeapOccupancy(double maxHeapOccupancy) {
+				this.maxHeapOccupancy = maxHeapOccupancy;
+			}
+
+			public double getMaxGcPauseRatio() {
+				return this.maxGcPauseRatio;
+			}
+
+			public void setMaxGcPauseRatio(double maxGcPauseRatio) {
+				this.maxGcPauseRatio = maxGcPauseRatio;
+			}
+
+		}
+
+		/**
+		 * Configuration properties for the auto-configured Tomcat worker pool saturation health check.
+		 */
+		public static class Tomcat {
+
+			/**
+			 * Whether to register a health check for the saturation of Tomcat's request worker pools. Requires
+			 * server.tomcat.mbeanregistry.enabled=true.
+			 */
+			private boolean enabled = false;
+
+			/**
+			 * The component name of the Tomcat worker pool health check.
+			 */
+			private String name = "tomcat";
+
+			/**
+			 * The maximum fraction of worker threads that may be busy.
+			 */
+			private double maxUtilization = 0.9;
+
+			public boolean isEnabled() {
+				return this.enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public String getName() {
+				return this.name;
+			}
+
+			public void setName(String name) {
+				this.name = name;
+			}
+
+			public double getMaxUtilization() {
+				return this.maxUtilization;
+			}
+
+			public void setMaxUtilization(double maxUtilization) {
+				this.maxUtilization = maxUtilization;
+			}
+
+		}
+
+		/**
+		 * Configuration properties for the auto-configured request load health check.
+		 */
+		public static class RequestLoad {
+
+			/**
+			 * Whether to track the application's servlet requests and report it as unhealthy while overloaded.
+			 */
+			private boolean enabled = false;
+
+			/**
+			 * The component name of the request load health check.
+			 */
+			private String name = "requests";
+
+			/**
+			 * The maximum number of requests that may be in flight.
+			 */
+			private int maxInFlight = 200;
+
+			/**
+			 * The maximum average response time in milliseconds.
+			 */
+			private long maxResponseTimeMillis = 1000;
+
+			/**
+			 * The fraction of both thresholds that must be reached again before an overloaded application recovers.
+			 */
+			private double recoveryRatio = 0.8;
+
+			/**
+			 * The weight of each response time in the moving average.
+			 */
+			private double alpha = 0.1;
+
+			/**
+			 * The path prefixes of requests that are not tracked.
+			 */
+			private List<String> excludedPaths = List.of("/actuator");
+
+			public boolean isEnabled() {
+				return this.enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public String getName() {
+				return this.name;
+			}
+
+			public void setName(String name) {
+				this.name = name;
+			}
+
+			public int getMaxInFlight() {
+				return this.maxInFlight;
+			}
+
+			public void setMaxInFlight(int maxInFlight) {
+				this.maxInFlight = maxInFlight;
+			}
+
+			public long getMaxResponseTimeMillis() {
+				return this.maxResponseTimeMillis;
+			}
+
+			public void setMaxResponseTimeMillis(long maxResponseTimeMillis) {
+				this.maxResponseTimeMillis = maxResponseTimeMillis;
+			}
+
+			public double getRecoveryRatio() {
+				return this.recoveryRatio;
+			}
+
+			public void setRecoveryRatio(double recoveryRatio) {
+				this.recoveryRatio = recoveryRatio;
+			}
+
+			public double getAlpha() {
+				return this.alpha;
+			}
+
+			public void setAlpha(double alpha) {
+				this.alpha = alpha;
+			}
+
+			public List<String> getExcludedPaths() {
+				return this.excludedPaths;
+			}
+
+			public void setExcludedPaths(List<String> excludedPaths) {
+				this.excludedPaths = excludedPaths;
+			}
+
+		}
+
+	}
+
 }
@@ -0,0 +1,43 @@
+package io.github.dtsstn.health.actuate;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.lang.Nullable;
+
+import io.github.dtsstn.health.core.HealthJournalEntry;
+import io.github.dtsstn.health.core.HealthResult;
+import io.github.dtsstn.health.core.HealthResult.ComponentHealthResult;
+import io.github.dtsstn.health.core.ImmutableComponentHealthResult;
+import io.github.dtsstn.health.core.ImmutableHealthJournalEntry;
+import io.github.dtsstn.health.core.ImmutableHealthResult;
+
+/**
+ * Runtime hints for GraalVM native images and Spring AOT, covering the Jackson (de)serialization of the health
+ * results and the invocation of the DTS health endpoints. Configuration property binding and the registration of
+ * {@code @Endpoint} beans are handled by Spring Boot itself.
+ */
+class DtsHealthRuntimeHints implements RuntimeHintsRegistrar {
+
+	private final BindingReflectionHintsRegistrar bindingReflectionHintsRegistrar = new BindingReflectionHintsRegistrar();
+
+	@Override
+	public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
+		// serialized by the endpoints, and deserialized by RemoteHealthCheck and HealthResultCodec
+		bindingReflectionHintsRegistrar.registerReflectionHints(hints.reflection(),
+				HealthResult.class, ImmutableHealthResult.class,
+				ComponentHealthResult.class, ImmutableComponentHealthResult.class,
+				HealthJournalEntry.class, ImmutableHealthJournalEntry.class);
+
+		// the delegates generated by Immutables for Jackson creators
+		hints.reflection().registerTypeIfPresent(classLoader, ImmutableHealthResult.class.getName() + "$Json", MemberCategory.values());
+		hints.reflection().registerTypeIfPresent(classLoader, ImmutableComponentHealthResult.class.getName() + "$Json", MemberCategory.values());
+
+		// operations are invoked reflectively
+		hints.reflection().registerType(DtsHealthEndpoint.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+		hints.reflection().registerType(DtsHealthJournalEndpoint.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+		hints.reflection().registerType(HealthResultFormat.class, MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.DECLARED_FIELDS);
+	}
+
+}
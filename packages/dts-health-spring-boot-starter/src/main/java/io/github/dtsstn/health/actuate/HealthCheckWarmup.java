@@ -0,0 +1,84 @@
+package io.github.dtsstn.health.actuate;
+
+import static java.util.Objects.requireNonNullElse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.util.Assert;
+
+import io.github.dtsstn.health.core.HealthCheckManager;
+import io.github.dtsstn.health.core.HealthCheckRegistry;
+import io.github.dtsstn.health.core.HealthResult;
+import io.github.dtsstn.health.core.ImmutableHealthCheckOptions;
+
+/**
+ * Executes all health checks once, in parallel, when the application is ready.
+ *
+ * <p>Spring Boot reports the application as accepting traffic only after every {@link ApplicationReadyEvent} listener
+ * has returned, so running the checks here warms up connection pools, TLS sessions and class loading before the first
+ * readiness probe arrives.</p>
+ */
+public class HealthCheckWarmup implements ApplicationListener<ApplicationReadyEvent> {
+
+	static final Logger log = LoggerFactory.getLogger(HealthCheckWarmup.class);
+
+	private final DtsHealthProperties dtsHealthProperties;
+
+	private final HealthCheckManager healthCheckManager;
+
+	private final HealthCheckRegistry healthCheckRegistry;
+
+	/**
+	 * Creates a new {@code HealthCheckWarmup}.
+	 *
+	 * @param dtsHealthProperties the properties for configuring health checks
+	 * @param healthCheckManager the manager responsible for executing health checks
+	 * @param healthCheckRegistry the registry of health checks to warm up
+	 */
+	public HealthCheckWarmup(DtsHealthProperties dtsHealthProperties, HealthCheckManager healthCheckManager, HealthCheckRegistry healthCheckRegistry) {
+		Assert.notNull(dtsHealthProperties, "'dtsHealthProperties' must not be null");
+		Assert.notNull(healthCheckManager, "'healthCheckManager' must not be null");
+		Assert.notNull(healthCheckRegistry, "'healthCheckRegistry' must not be null");
+
+		this.dtsHealthProperties = dtsHealthProperties;
+		this.healthCheckManager = healthCheckManager;
+		this.healthCheckRegistry = healthCheckRegistry;
+	}
+
+	@Override
+	public void onApplicationEvent(ApplicationReadyEvent event) {
+		warmup();
+	}
+
+	/**
+	 * Executes all health checks once and logs the time taken by each of them.
+	 *
+	 * @return the {@link HealthResult} of the warm-up execution
+	 */
+	public HealthResult warmup() {
+		final var timeoutMillis = requireNonNullElse(dtsHealthProperties.getWarmup().getTimeoutMillis(), dtsHealthProperties.getDefaultTimeoutMillis());
+
+		log.info("Warming up [{}] health checks with timeout [{} ms]", healthCheckRegistry.size(), timeoutMillis);
+
+		final var healthResult = healthCheckManager.executeChecks(healthCheckRegistry.getHealthChecks(), ImmutableHealthCheckOptions.builder()
+				.timeoutMillis(timeoutMillis)
+				.includeDetails(true)
+				// every component is warmed up, not only the sample a request would execute
+				.executeAllComponents(true)
+				.version(dtsHealthProperties.getVersion())
+				.buildId(dtsHealthProperties.getBuildId())
+				.build());
+
+		if (healthResult.getComponents() != null) {
+			healthResult.getComponents().forEach(component -> log.info("Warmed up health check [{}] with status [{}] in [{} ms]",
+					component.getName(), component.getStatus(), component.getResponseTimeMs()));
+		}
+
+		log.info("Health check warm-up completed with status [{}] in [{} ms]", healthResult.getStatus(), healthResult.getResponseTimeMs());
+
+		return healthResult;
+	}
+
+}
@@ -0,0 +1,41 @@
+package io.github.dtsstn.health.actuate;
+
+import org.springframework.boot.actuate.endpoint.Producible;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import io.github.dtsstn.health.core.HealthResult;
+
+/**
+ * The formats in which the {@link DtsHealthEndpoint} can produce a health result, negotiated from the request's
+ * {@code Accept} header.
+ */
+public enum HealthResultFormat implements Producible<HealthResultFormat> {
+
+	/**
+	 * JSON, the default format.
+	 */
+	JSON(HealthResult.CONTENT_TYPE),
+
+	/**
+	 * Compact binary CBOR, decodable with {@link io.github.dtsstn.health.core.HealthResultCodec}.
+	 */
+	CBOR(HealthResult.CBOR_CONTENT_TYPE);
+
+	private final MimeType mimeType;
+
+	HealthResultFormat(String mimeType) {
+		this.mimeType = MimeTypeUtils.parseMimeType(mimeType);
+	}
+
+	@Override
+	public MimeType getProducedMimeType() {
+		return mimeType;
+	}
+
+	@Override
+	public boolean isDefault() {
+		return this == JSON;
+	}
+
+}
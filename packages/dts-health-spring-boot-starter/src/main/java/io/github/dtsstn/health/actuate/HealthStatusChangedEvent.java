@@ -0,0 +1,43 @@
+package io.github.dtsstn.health.actuate;
+
+import org.springframework.context.ApplicationEvent;
+
+import io.github.dtsstn.health.core.HealthResult;
+import io.github.dtsstn.health.core.HealthResult.Status;
+import jakarta.annotation.Nullable;
+
+/**
+ * Event published when the aggregate health status of the application changes.
+ */
+public class HealthStatusChangedEvent extends ApplicationEvent {
+
+	private static final long serialVersionUID = 1L;
+
+	@Nullable
+	private final Status previousStatus;
+
+	/**
+	 * Creates a new {@code HealthStatusChangedEvent}.
+	 *
+	 * @param healthResult the result that reported the new status
+	 * @param previousStatus the previous status, or {@code null} if there was none
+	 */
+	public HealthStatusChangedEvent(HealthResult healthResult, @Nullable Status previousStatus) {
+		super(healthResult);
+		this.previousStatus = previousStatus;
+	}
+
+	public HealthResult getHealthResult() {
+		return (HealthResult) getSource();
+	}
+
+	@Nullable
+	public Status getPreviousStatus() {
+		return previousStatus;
+	}
+
+	public Status getStatus() {
+		return getHealthResult().getStatus();
+	}
+
+}
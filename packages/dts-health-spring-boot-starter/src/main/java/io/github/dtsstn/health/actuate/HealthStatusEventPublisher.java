@@ -0,0 +1,43 @@
+package io.github.dtsstn.health.actuate;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.util.Assert;
+
+import io.github.dtsstn.health.core.HealthResult;
+import io.github.dtsstn.health.core.HealthResult.ComponentHealthResult;
+import io.github.dtsstn.health.core.HealthResult.Status;
+import io.github.dtsstn.health.core.HealthStatusListener;
+import jakarta.annotation.Nullable;
+
+/**
+ * A {@link HealthStatusListener} that republishes status transitions as Spring application events, so that they can be
+ * consumed with {@code @EventListener}.
+ *
+ * @see HealthStatusChangedEvent
+ * @see ComponentStatusChangedEvent
+ */
+public class HealthStatusEventPublisher implements HealthStatusListener {
+
+	private final ApplicationEventPublisher applicationEventPublisher;
+
+	/**
+	 * Creates a new {@code HealthStatusEventPublisher}.
+	 *
+	 * @param applicationEventPublisher the publisher of application events
+	 */
+	public HealthStatusEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+		Assert.notNull(applicationEventPublisher, "'applicationEventPublisher' must not be null");
+		this.applicationEventPublisher = applicationEventPublisher;
+	}
+
+	@Override
+	public void onComponentStatusChanged(@Nullable ComponentHealthResult.Status previousStatus, ComponentHealthResult componentHealthResult) {
+		applicationEventPublisher.publishEvent(new ComponentStatusChangedEvent(componentHealthResult, previousStatus));
+	}
+
+	@Override
+	public void onStatusChanged(@Nullable Status previousStatus, HealthResult healthResult) {
+		applicationEventPublisher.publishEvent(new HealthStatusChangedEvent(healthResult, previousStatus));
+	}
+
+}
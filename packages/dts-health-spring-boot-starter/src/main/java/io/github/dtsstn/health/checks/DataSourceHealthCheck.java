@@ -0,0 +1,115 @@
+package io.github.dtsstn.health.checks;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+import javax.sql.DataSource;
+
+import org.springframework.util.Assert;
+
+import io.github.dtsstn.health.core.TimeoutAwareHealthCheck;
+
+/**
+ * A health check that validates a connection borrowed from a (pooled) {@link DataSource}.
+ *
+ * <p>The connection is validated with {@link java.sql.Connection#isValid(int)}, which lets the driver use its cheapest
+ * validation mechanism (often a protocol-level ping) instead of a query, and is returned to the pool immediately.</p>
+ *
+ * <p>The wait for a pooled connection cannot be interrupted by this check: it is bounded by the pool's own connection
+ * timeout (such as HikariCP's {@code connectionTimeout}), which should not be longer than the health check timeout. The
+ * time spent waiting counts against the timeout, and only the remaining time is allowed for validation.</p>
+ *
+ * <p>{@link java.sql.Connection#isValid(int)} only takes whole seconds, so the validation is also bounded by the
+ * connection's {@linkplain Connection#setNetworkTimeout network timeout}, set to the remaining time for its duration.
+ * With drivers that do not support network timeouts, the validation may overrun the timeout by up to a second.</p>
+ */
+public class DataSourceHealthCheck implements TimeoutAwareHealthCheck {
+
+	// aborts a connection whose network timeout has expired on the driver's own thread
+	private static final Executor ABORT_EXECUTOR = Runnable::run;
+
+	private final String name;
+
+	private final DataSource dataSource;
+
+	private final Duration timeout;
+
+	/**
+	 * Creates a new {@code DataSourceHealthCheck}.
+	 *
+	 * @param name the name of the component
+	 * @param dataSource the data source to validate
+	 * @param timeout the maximum time a validation may take
+	 */
+	public DataSourceHealthCheck(String name, DataSource dataSource, Duration timeout) {
+		Assert.hasText(name, "'name' must not be empty");
+		Assert.notNull(dataSource, "'dataSource' must not be null");
+		Assert.notNull(timeout, "'timeout' must not be null");
+
+		this.name = name;
+		this.dataSource = dataSource;
+		this.timeout = timeout;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public void execute() {
+		execute(timeout);
+	}
+
+	@Override
+	public void execute(Duration timeout) {
+		final var effectiveTimeout = timeout.compareTo(this.timeout) < 0 ? timeout : this.timeout;
+		final var deadlineNanos = System.nanoTime() + effectiveTimeout.toNanos();
+
+		try (var connection = dataSource.getConnection()) {
+			final var remainingMillis = NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+
+			if (remainingMillis <= 0) {
+				throw new IllegalStateException(format("Could not obtain a connection for [%s] within [%d ms]", name, effectiveTimeout.toMillis()));
+			}
+
+			// Connection.isValid() takes whole seconds; zero means no timeout, so round up to at least one second
+			final var timeoutSeconds = (int) Math.max(1, Math.min(Integer.MAX_VALUE, (remainingMillis + 999) / 1000));
+			final var previousNetworkTimeout = setNetworkTimeout(connection, (int) Math.min(Integer.MAX_VALUE, remainingMillis));
+
+			try {
+				if (!connection.isValid(timeoutSeconds)) {
+					throw new IllegalStateException(format("Connection validation for [%s] failed within [%d ms]", name, remainingMillis));
+				}
+			}
+			finally {
+				if (previousNetworkTimeout >= 0 && !connection.isClosed()) { connection.setNetworkTimeout(ABORT_EXECUTOR, previousNetworkTimeout); }
+			}
+		}
+		catch (SQLException e) {
+			throw new IllegalStateException(format("Could not obtain a connection for [%s]", name), e);
+		}
+	}
+
+	/**
+	 * Sets the network timeout of a connection, returning the previous one, or {@code -1} if the driver does not
+	 * support network timeouts.
+	 */
+	private static int setNetworkTimeout(Connection connection, int timeoutMillis) throws SQLException {
+		try {
+			final var previousNetworkTimeout = connection.getNetworkTimeout();
+			connection.setNetworkTimeout(ABORT_EXECUTOR, timeoutMillis);
+			return previousNetworkTimeout;
+		}
+		catch (SQLFeatureNotSupportedException e) {
+			return -1;
+		}
+	}
+
+}
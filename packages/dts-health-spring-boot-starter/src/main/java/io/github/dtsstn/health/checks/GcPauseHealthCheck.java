@@ -0,0 +1,122 @@
+package io.github.dtsstn.health.checks;
+
+import static java.lang.String.format;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.springframework.util.Assert;
+
+import io.github.dtsstn.health.core.HealthCheck;
+
+/**
+ * A health check that fails when the JVM has recently spent too large a fraction of wall-clock time paused for
+ * garbage collection.
+ *
+ * <p>The ratio is computed over the interval since the previous measurement, from the cumulative collection times of
+ * the stop-the-world collectors. Collectors that report concurrent cycles rather than pauses are ignored. Measurements
+ * closer together than the minimum interval reuse the previous ratio so that bursts of probes do not produce noisy
+ * results.</p>
+ */
+public class GcPauseHealthCheck implements HealthCheck {
+
+	static final long MIN_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private final String name;
+
+	private final double maxPauseRatio;
+
+	private final GarbageCollectorMXBean[] garbageCollectors;
+
+	private final Map<String, String> metadata;
+
+	private final LongSupplier nanoTime;
+
+	private long lastNanos;
+
+	private long lastCollectionTimeMillis;
+
+	private double lastPauseRatio;
+
+	/**
+	 * Creates a new {@code GcPauseHealthCheck}.
+	 *
+	 * @param name the name of the component
+	 * @param maxPauseRatio the maximum fraction (between 0 and 1) of time that may be spent paused for GC
+	 */
+	public GcPauseHealthCheck(String name, double maxPauseRatio) {
+		this(name, maxPauseRatio, ManagementFactory.getGarbageCollectorMXBeans(), System::nanoTime);
+	}
+
+	GcPauseHealthCheck(String name, double maxPauseRatio, List<GarbageCollectorMXBean> garbageCollectors, LongSupplier nanoTime) {
+		Assert.hasText(name, "'name' must not be empty");
+		Assert.isTrue(maxPauseRatio > 0 && maxPauseRatio <= 1, "'maxPauseRatio' must be between 0 and 1");
+		Assert.notNull(nanoTime, "'nanoTime' must not be null");
+
+		this.name = name;
+		this.maxPauseRatio = maxPauseRatio;
+		this.garbageCollectors = garbageCollectors.stream()
+				.filter(garbageCollector -> !garbageCollector.getName().contains("Concurrent") && !garbageCollector.getName().endsWith("Cycles"))
+				.toArray(GarbageCollectorMXBean[]::new);
+		this.metadata = Map.of("maxPauseRatio", String.valueOf(maxPauseRatio));
+
+		this.nanoTime = nanoTime;
+		this.lastNanos = nanoTime.getAsLong();
+		this.lastCollectionTimeMillis = totalCollectionTimeMillis();
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public void execute() {
+		final var pauseRatio = measurePauseRatio();
+
+		if (pauseRatio > maxPauseRatio) {
+			throw new IllegalStateException(format("GC pause ratio [%.3f] exceeds [%.3f]", pauseRatio, maxPauseRatio));
+		}
+	}
+
+	@Override
+	public Map<String, String> getMetadata() {
+		return metadata;
+	}
+
+	/**
+	 * Measures the fraction of time spent paused for GC since the previous measurement.
+	 *
+	 * @return the pause ratio, between 0 and 1
+	 */
+	synchronized double measurePauseRatio() {
+		final var nowNanos = nanoTime.getAsLong();
+		final var elapsedNanos = nowNanos - lastNanos;
+
+		if (elapsedNanos < MIN_INTERVAL_NANOS) { return lastPauseRatio; }
+
+		final var collectionTimeMillis = totalCollectionTimeMillis();
+		final var pausedNanos = TimeUnit.MILLISECONDS.toNanos(collectionTimeMillis - lastCollectionTimeMillis);
+
+		this.lastNanos = nowNanos;
+		this.lastCollectionTimeMillis = collectionTimeMillis;
+		this.lastPauseRatio = Math.min(1.0, (double) pausedNanos / elapsedNanos);
+
+		return lastPauseRatio;
+	}
+
+	long totalCollectionTimeMillis() {
+		long total = 0;
+
+		for (final var garbageCollector : garbageCollectors) {
+			total += Math.max(0, garbageCollector.getCollectionTime());
+		}
+
+		return total;
+	}
+
+}
@@ -0,0 +1,167 @@
+package io.github.dtsstn.health.checks;
+
+import static java.lang.String.format;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import io.github.dtsstn.health.core.HealthCheck;
+import jakarta.annotation.Nullable;
+
+/**
+ * A health check that fails when the long-lived heap is still nearly full after garbage collection, a sign that the
+ * JVM is about to spend most of its time collecting.
+ *
+ * <p>Occupancy is read from {@link MemoryPoolMXBean#getCollectionUsage()} of the old generation pool (or of the single
+ * heap pool, for non-generational collectors), so it reflects live data rather than garbage waiting to be collected.
+ * The pool and its collectors are looked up once. Reading the collection usage allocates, so it is only read again
+ * once one of the pool's collectors has run; other executions only read the collection counts and allocate nothing.</p>
+ *
+ * <p>Under collectors whose pools are not recognized (such as Epsilon, which never collects), a warning is logged and
+ * the check always succeeds.</p>
+ */
+public class HeapOccupancyHealthCheck implements HealthCheck {
+
+	static final Logger log = LoggerFactory.getLogger(HeapOccupancyHealthCheck.class);
+
+	private final String name;
+
+	private final double maxOccupancy;
+
+	@Nullable
+	private final MemoryPoolMXBean memoryPool;
+
+	private final GarbageCollectorMXBean[] garbageCollectors;
+
+	private final Map<String, String> metadata;
+
+	private long lastCollectionCount = -1;
+
+	private double lastOccupancy;
+
+	/**
+	 * Creates a new {@code HeapOccupancyHealthCheck}.
+	 *
+	 * @param name the name of the component
+	 * @param maxOccupancy the maximum fraction (between 0 and 1) of the pool that may be in use after collection
+	 */
+	public HeapOccupancyHealthCheck(String name, double maxOccupancy) {
+		this(name, maxOccupancy, ManagementFactory.getMemoryPoolMXBeans(), ManagementFactory.getGarbageCollectorMXBeans());
+	}
+
+	HeapOccupancyHealthCheck(String name, double maxOccupancy, List<MemoryPoolMXBean> memoryPools, List<GarbageCollectorMXBean> garbageCollectors) {
+		Assert.hasText(name, "'name' must not be empty");
+		Assert.isTrue(maxOccupancy > 0 && maxOccupancy <= 1, "'maxOccupancy' must be between 0 and 1");
+
+		this.name = name;
+		this.maxOccupancy = maxOccupancy;
+		this.memoryPool = findLongLivedPool(memoryPools).orElse(null);
+
+		if (memoryPool == null) {
+			log.warn("Could not determine the long-lived heap pool from {}; heap occupancy is not checked", memoryPools.stream().map(MemoryPoolMXBean::getName).toList());
+			this.garbageCollectors = new GarbageCollectorMXBean[0];
+			this.metadata = Map.of("maxOccupancy", String.valueOf(maxOccupancy));
+			return;
+		}
+
+		final var managerNames = Set.of(memoryPool.getMemoryManagerNames());
+
+		this.garbageCollectors = garbageCollectors.stream()
+				.filter(garbageCollector -> managerNames.contains(garbageCollector.getName()))
+				.toArray(GarbageCollectorMXBean[]::new);
+		this.metadata = Map.of("pool", memoryPool.getName(), "maxOccupancy", String.valueOf(maxOccupancy));
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public void execute() {
+		if (memoryPool == null) { return; }
+
+		final var occupancy = measureOccupancy();
+
+		if (occupancy > maxOccupancy) {
+			throw new IllegalStateException(format("Pool [%s] occupancy after GC [%.2f] exceeds [%.2f]", memoryPool.getName(), occupancy, maxOccupancy));
+		}
+	}
+
+	@Override
+	public Map<String, String> getMetadata() {
+		return metadata;
+	}
+
+	/**
+	 * Measures the occupancy of the pool after the last collection, reusing the previous measurement if none of the
+	 * pool's collectors has run since.
+	 *
+	 * @return the occupancy, between 0 and 1, or {@code 0} if no collection has happened yet
+	 */
+	synchronized double measureOccupancy() {
+		final var collectionCount = totalCollectionCount();
+
+		// collectors that do not report counts (-1) are read every time
+		if (collectionCount == lastCollectionCount && collectionCount >= 0) { return lastOccupancy; }
+
+		final var collectionUsage = memoryPool.getCollectionUsage();
+
+		// no collection has happened yet
+		if (collectionUsage == null || collectionUsage.getUsed() == 0) {
+			this.lastOccupancy = 0;
+		}
+		else {
+			final var capacity = collectionUsage.getMax() > 0 ? collectionUsage.getMax() : collectionUsage.getCommitted();
+			this.lastOccupancy = (double) collectionUsage.getUsed() / capacity;
+		}
+
+		this.lastCollectionCount = garbageCollectors.length > 0 ? collectionCount : -1;
+
+		return lastOccupancy;
+	}
+
+	/**
+	 * Returns the total number of collections of the pool's collectors, or {@code -1} if any of them does not report
+	 * it, since the total can then not tell whether a collection has happened.
+	 */
+	long totalCollectionCount() {
+		long total = 0;
+
+		for (final var garbageCollector : garbageCollectors) {
+			final var collectionCount = garbageCollector.getCollectionCount();
+			if (collectionCount < 0) { return -1; }
+
+			total += collectionCount;
+		}
+
+		return total;
+	}
+
+	/**
+	 * Finds the heap pool holding long-lived objects: the old (tenured) generation of generational collectors, or the
+	 * only heap pool that reports collection usage.
+	 */
+	static Optional<MemoryPoolMXBean> findLongLivedPool(List<MemoryPoolMXBean> memoryPools) {
+		final var heapPools = memoryPools.stream()
+				.filter(memoryPool -> memoryPool.getType() == MemoryType.HEAP)
+				.filter(MemoryPoolMXBean::isCollectionUsageThresholdSupported)
+				.toList();
+
+		return heapPools.stream()
+				.filter(memoryPool -> memoryPool.getName().contains("Old") || memoryPool.getName().contains("Tenured"))
+				.findFirst()
+				.or(() -> heapPools.size() == 1 ? heapPools.stream().findFirst() : Optional.empty());
+	}
+
+}
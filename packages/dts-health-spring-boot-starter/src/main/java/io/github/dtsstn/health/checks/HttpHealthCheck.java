@@ -0,0 +1,108 @@
+package io.github.dtsstn.health.checks;
+
+import static java.lang.String.format;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+
+import io.github.dtsstn.health.core.TimeoutAwareHealthCheck;
+
+/**
+ * A health check that sends a {@code HEAD} request to a URL and expects a successful ({@code 2xx}) response.
+ *
+ * <p>Unless a client is given, all instances share a single {@link HttpClient}, so connections (and TLS sessions) to
+ * the same host are reused between probes. Any response body is discarded without being buffered.</p>
+ */
+public class HttpHealthCheck implements TimeoutAwareHealthCheck {
+
+	static final HttpClient sharedHttpClient = HttpClient.newBuilder()
+			.followRedirects(HttpClient.Redirect.NORMAL)
+			.build();
+
+	private final String name;
+
+	private final URI uri;
+
+	private final Duration timeout;
+
+	private final HttpClient httpClient;
+
+	/**
+	 * Creates a new {@code HttpHealthCheck} that uses the shared HTTP client.
+	 *
+	 * @param name the name of the component
+	 * @param uri the URL to check
+	 * @param timeout the maximum time a request may take
+	 */
+	public HttpHealthCheck(String name, URI uri, Duration timeout) {
+		this(name, uri, timeout, sharedHttpClient);
+	}
+
+	/**
+	 * Creates a new {@code HttpHealthCheck}.
+	 *
+	 * @param name the name of the component
+	 * @param uri the URL to check
+	 * @param timeout the maximum time a request may take
+	 * @param httpClient the HTTP client used to send requests
+	 */
+	public HttpHealthCheck(String name, URI uri, Duration timeout, HttpClient httpClient) {
+		Assert.hasText(name, "'name' must not be empty");
+		Assert.notNull(uri, "'uri' must not be null");
+		Assert.notNull(timeout, "'timeout' must not be null");
+		Assert.notNull(httpClient, "'httpClient' must not be null");
+
+		this.name = name;
+		this.uri = uri;
+		this.timeout = timeout;
+		this.httpClient = httpClient;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public void execute() {
+		execute(timeout);
+	}
+
+	@Override
+	public void execute(Duration timeout) {
+		final var request = HttpRequest.newBuilder(uri)
+				.method("HEAD", HttpRequest.BodyPublishers.noBody())
+				.timeout(timeout.compareTo(this.timeout) < 0 ? timeout : this.timeout)
+				.build();
+
+		final int statusCode;
+
+		try {
+			statusCode = httpClient.send(request, BodyHandlers.discarding()).statusCode();
+		}
+		catch (IOException e) {
+			throw new IllegalStateException(format("Request to [%s] failed", uri), e);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(format("Request to [%s] was interrupted", uri), e);
+		}
+
+		if (statusCode < 200 || statusCode >= 300) {
+			throw new IllegalStateException(format("Request to [%s] returned HTTP status [%d]", uri, statusCode));
+		}
+	}
+
+	@Override
+	public Map<String, String> getMetadata() {
+		return Map.of("url", uri.toString());
+	}
+
+}
@@ -0,0 +1,105 @@
+package io.github.dtsstn.health.checks;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * A servlet filter that reports every request to a {@link RequestLoadHealthCheck}.
+ *
+ * <p>Requests that are processed asynchronously are reported as completed when their async processing completes.
+ * Requests under the excluded paths, such as the actuator's own health endpoints, are not reported so that health
+ * probes do not count towards the load that they report.</p>
+ */
+public class RequestLoadFilter implements Filter {
+
+	private final RequestLoadHealthCheck requestLoadHealthCheck;
+
+	private final List<String> excludedPaths;
+
+	/**
+	 * Creates a new {@code RequestLoadFilter}.
+	 *
+	 * @param requestLoadHealthCheck the health check to report requests to
+	 * @param excludedPaths the path prefixes (relative to the context path) of requests that are not reported
+	 */
+	public RequestLoadFilter(RequestLoadHealthCheck requestLoadHealthCheck, List<String> excludedPaths) {
+		Assert.notNull(requestLoadHealthCheck, "'requestLoadHealthCheck' must not be null");
+		Assert.notNull(excludedPaths, "'excludedPaths' must not be null");
+
+		this.requestLoadHealthCheck = requestLoadHealthCheck;
+		this.excludedPaths = List.copyOf(excludedPaths);
+	}
+
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+		if (!(request instanceof HttpServletRequest httpServletRequest) || isExcluded(httpServletRequest)) {
+			chain.doFilter(request, response);
+			return;
+		}
+
+		final var startNanos = requestLoadHealthCheck.requestStarted();
+		var completesAsynchronously = false;
+
+		try {
+			chain.doFilter(request, response);
+
+			if (request.isAsyncStarted()) {
+				request.getAsyncContext().addListener(new CompletionListener(startNanos));
+				completesAsynchronously = true;
+			}
+		}
+		finally {
+			if (!completesAsynchronously) {
+				requestLoadHealthCheck.requestCompleted(startNanos);
+			}
+		}
+	}
+
+	protected boolean isExcluded(HttpServletRequest request) {
+		final var path = request.getRequestURI().substring(request.getContextPath().length());
+		return excludedPaths.stream().anyMatch(path::startsWith);
+	}
+
+	private class CompletionListener implements AsyncListener {
+
+		private final long startNanos;
+
+		CompletionListener(long startNanos) {
+			this.startNanos = startNanos;
+		}
+
+		@Override
+		public void onComplete(AsyncEvent event) {
+			requestLoadHealthCheck.requestCompleted(startNanos);
+		}
+
+		@Override
+		public void onStartAsync(AsyncEvent event) {
+			// listeners are removed when async processing is restarted
+			event.getAsyncContext().addListener(this);
+		}
+
+		@Override
+		public void onTimeout(AsyncEvent event) {
+			// always followed by onComplete
+		}
+
+		@Override
+		public void onError(AsyncEvent event) {
+			// always followed by onComplete
+		}
+
+	}
+
+}
@@ -0,0 +1,192 @@
+package io.github.dtsstn.health.checks;
+
+import static java.lang.String.format;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.LongSupplier;
+
+import org.springframework.util.Assert;
+
+import io.github.dtsstn.health.core.HealthCheck;
+
+/**
+ * A health check that fails when the application is overloaded by its own request traffic: too many requests are in
+ * flight, or their response time has risen above its objective.
+ *
+ * <p>Requests are reported through {@link #requestStarted()} and {@link #requestCompleted(long)}, usually by a
+ * {@link RequestLoadFilter}, without locking so that every request thread can report them. The response time is an
+ * exponentially weighted moving average that decays towards zero while no request is in flight, so that an instance
+ * taken out of rotation because of this check can become ready again. Requests still in flight do not count towards
+ * it, so that a long-lived request (a server-sent event stream or a long poll) does not fail the check on its own;
+ * requests stuck in flight are caught by the in-flight threshold instead.</p>
+ *
+ * <p>To avoid flapping, the check fails as soon as either threshold is exceeded, and only succeeds again once both the
+ * requests in flight and the response time have dropped below {@code recoveryRatio} times their thresholds.</p>
+ */
+public class RequestLoadHealthCheck implements HealthCheck {
+
+	static final long IDLE_DECAY_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+	private final String name;
+
+	private final int maxInFlight;
+
+	private final long maxResponseTimeMillis;
+
+	private final double recoveryRatio;
+
+	private final double alpha;
+
+	private final LongSupplier nanoTime;
+
+	private final Map<String, String> metadata;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final AtomicLong averageResponseTimeBits = new AtomicLong(Double.doubleToRawLongBits(Double.NaN));
+
+	private volatile long lastCompletedNanos;
+
+	// guarded by this, so that concurrent probes do not lose a transition
+	private boolean overloaded;
+
+	/**
+	 * Creates a new {@code RequestLoadHealthCheck}.
+	 *
+	 * @param name the name of the component
+	 * @param maxInFlight the maximum number of requests that may be in flight
+	 * @param maxResponseTimeMillis the maximum average response time in milliseconds
+	 * @param recoveryRatio the fraction (between 0 and 1) of both thresholds that must be reached again to recover
+	 * @param alpha the weight (between 0 and 1) of each response time in the moving average
+	 */
+	public RequestLoadHealthCheck(String name, int maxInFlight, long maxResponseTimeMillis, double recoveryRatio, double alpha) {
+		this(name, maxInFlight, maxResponseTimeMillis, recoveryRatio, alpha, System::nanoTime);
+	}
+
+	RequestLoadHealthCheck(String name, int maxInFlight, long maxResponseTimeMillis, double recoveryRatio, double alpha, LongSupplier nanoTime) {
+		Assert.hasText(name, "'name' must not be empty");
+		Assert.isTrue(maxInFlight > 0, "'maxInFlight' must be positive");
+		Assert.isTrue(maxResponseTimeMillis > 0, "'maxResponseTimeMillis' must be positive");
+		Assert.isTrue(recoveryRatio > 0 && recoveryRatio <= 1, "'recoveryRatio' must be between 0 and 1");
+		Assert.isTrue(alpha > 0 && alpha <= 1, "'alpha' must be between 0 and 1");
+		Assert.notNull(nanoTime, "'nanoTime' must not be null");
+
+		this.name = name;
+		this.maxInFlight = maxInFlight;
+		this.maxResponseTimeMillis = maxResponseTimeMillis;
+		this.recoveryRatio = recoveryRatio;
+		this.alpha = alpha;
+		this.nanoTime = nanoTime;
+		this.metadata = Map.of("maxInFlight", String.valueOf(maxInFlight), "maxResponseTimeMillis", String.valueOf(maxResponseTimeMillis));
+		this.lastCompletedNanos = nanoTime.getAsLong();
+	}
+
+	/**
+	 * Reports that a request has started.
+	 *
+	 * @return the start time of the request, to be passed to {@link #requestCompleted(long)}
+	 */
+	public long requestStarted() {
+		final var nowNanos = nanoTime.getAsLong();
+
+		// the response time only decays while no request is in flight, so the idle period ends here
+		if (inFlight.getAndIncrement() == 0) { updateAverage(average -> decay(average, nowNanos)); }
+
+		return nowNanos;
+	}
+
+	/**
+	 * Reports that a request has completed, successfully or not.
+	 *
+	 * @param startNanos the start time returned by {@link #requestStarted()}
+	 */
+	public void requestCompleted(long startNanos) {
+		final var nowNanos = nanoTime.getAsLong();
+		final var responseTimeMillis = (nowNanos - startNanos) / 1_000_000.0;
+
+		updateAverage(average -> Double.isNaN(average) ? responseTimeMillis : average + alpha * (responseTimeMillis - average));
+
+		// written before the request leaves the in-flight count, so that the idle period starts no earlier than now
+		lastCompletedNanos = nowNanos;
+		inFlight.decrementAndGet();
+	}
+
+	/**
+	 * Returns the number of requests currently in flight.
+	 *
+	 * @return the number of requests in flight
+	 */
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	/**
+	 * Returns the moving average of the response time of the completed requests.
+	 *
+	 * @return the response time in milliseconds, or {@code 0} if no request has completed yet
+	 */
+	public double getResponseTimeMillis() {
+		final var average = Double.longBitsToDouble(averageResponseTimeBits.get());
+		final var currentAverage = inFlight.get() == 0 ? decay(average, nanoTime.getAsLong()) : average;
+
+		return Double.isNaN(currentAverage) ? 0 : currentAverage;
+	}
+
+	private void updateAverage(DoubleUnaryOperator update) {
+		long previousBits, nextBits;
+
+		do {
+			previousBits = averageResponseTimeBits.get();
+			nextBits = Double.doubleToRawLongBits(update.applyAsDouble(Double.longBitsToDouble(previousBits)));
+		} while (!averageResponseTimeBits.compareAndSet(previousBits, nextBits));
+	}
+
+	private double decay(double average, long nowNanos) {
+		final var idleNanos = Math.max(0, nowNanos - lastCompletedNanos);
+		return average * Math.exp(-(double) idleNanos / IDLE_DECAY_NANOS);
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public void execute() {
+		final var requests = getInFlight();
+		final var responseTimeMillis = getResponseTimeMillis();
+
+		final var exceeded = requests > maxInFlight || responseTimeMillis > maxResponseTimeMillis;
+		final var recovered = requests <= maxInFlight * recoveryRatio && responseTimeMillis <= maxResponseTimeMillis * recoveryRatio;
+
+		if (updateOverloaded(exceeded, recovered)) {
+			throw new IllegalStateException(format("Overloaded with [%d] requests in flight (max [%d]) and an average response time of [%.0f ms] (max [%d ms])",
+					requests, maxInFlight, responseTimeMillis, maxResponseTimeMillis));
+		}
+	}
+
+	private synchronized boolean updateOverloaded(boolean exceeded, boolean recovered) {
+		overloaded = overloaded ? !recovered : exceeded;
+		return overloaded;
+	}
+
+	@Override
+	public Map<String, String> getMetadata() {
+		return metadata;
+	}
+
+	/**
+	 * This check is cheap, and an overloaded instance must be able to report it without waiting for other health checks.
+	 *
+	 * @return {@link Priority#CRITICAL}
+	 */
+	@Override
+	public Priority getPriority() {
+		return Priority.CRITICAL;
+	}
+
+}
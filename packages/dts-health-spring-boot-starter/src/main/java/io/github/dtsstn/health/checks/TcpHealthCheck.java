@@ -0,0 +1,95 @@
+package io.github.dtsstn.health.checks;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+
+import io.github.dtsstn.health.core.TimeoutAwareHealthCheck;
+
+/**
+ * A health check that opens (and immediately closes) a TCP connection to a host and port.
+ *
+ * <p>The host name is resolved on every execution, so that DNS changes are picked up. Resolution cannot be interrupted
+ * by this check: it is bounded by the system resolver's own timeouts. The time spent resolving counts against the
+ * timeout, and only the remaining time is allowed for connecting.</p>
+ */
+public class TcpHealthCheck implements TimeoutAwareHealthCheck {
+
+	private final String name;
+
+	private final String host;
+
+	private final int port;
+
+	private final Duration timeout;
+
+	/**
+	 * Creates a new {@code TcpHealthCheck}.
+	 *
+	 * @param name the name of the component
+	 * @param host the host to connect to
+	 * @param port the port to connect to
+	 * @param timeout the maximum time a connection attempt may take
+	 */
+	public TcpHealthCheck(String name, String host, int port, Duration timeout) {
+		Assert.hasText(name, "'name' must not be empty");
+		Assert.hasText(host, "'host' must not be empty");
+		Assert.isTrue(port > 0 && port <= 65535, "'port' must be between 1 and 65535");
+		Assert.notNull(timeout, "'timeout' must not be null");
+
+		this.name = name;
+		this.host = host;
+		this.port = port;
+		this.timeout = timeout;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public void execute() {
+		execute(timeout);
+	}
+
+	@Override
+	public void execute(Duration timeout) {
+		final var effectiveTimeout = timeout.compareTo(this.timeout) < 0 ? timeout : this.timeout;
+		final var deadlineNanos = System.nanoTime() + effectiveTimeout.toNanos();
+
+		final var address = new InetSocketAddress(host, port);
+
+		if (address.isUnresolved()) {
+			throw new IllegalStateException(format("Could not resolve [%s]", host));
+		}
+
+		final var remainingMillis = NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+
+		if (remainingMillis <= 0) {
+			throw new IllegalStateException(format("Could not resolve [%s] within [%d ms]", host, effectiveTimeout.toMillis()));
+		}
+
+		final var timeoutMillis = (int) Math.min(Integer.MAX_VALUE, remainingMillis);
+
+		try (var socket = new Socket()) {
+			socket.connect(address, timeoutMillis);
+		}
+		catch (IOException e) {
+			throw new IllegalStateException(format("Could not connect to [%s:%d] within [%d ms]", host, port, timeoutMillis), e);
+		}
+	}
+
+	@Override
+	public Map<String, String> getMetadata() {
+		return Map.of("host", host, "port", String.valueOf(port));
+	}
+
+}
@@ -0,0 +1,207 @@
+package io.github.dtsstn.health.checks;
+
+import static java.lang.String.format;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.IntSupplier;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import org.springframework.util.Assert;
+
+import io.github.dtsstn.health.core.HealthCheck;
+
+/**
+ * A health check that fails when a worker pool is saturated: (nearly) all of its threads are busy, or too many tasks
+ * are queued waiting for one.
+ *
+ * <p>The pool is read through {@link IntSupplier}s so that any executor exposing these counters can be checked, such
+ * as a web server's request worker pool. Use {@link #forExecutor} for a {@link ThreadPoolExecutor}, and
+ * {@link #forTomcat} for the request worker pools of (embedded) Tomcat.</p>
+ */
+public class ThreadPoolSaturationHealthCheck implements HealthCheck {
+
+	private final String name;
+
+	private final IntSupplier activeThreads;
+
+	private final IntSupplier maxThreads;
+
+	private final IntSupplier queuedTasks;
+
+	private final double maxUtilization;
+
+	private final int maxQueuedTasks;
+
+	private final Map<String, String> metadata;
+
+	/**
+	 * Creates a new {@code ThreadPoolSaturationHealthCheck}.
+	 *
+	 * @param name the name of the component
+	 * @param activeThreads supplies the number of threads currently executing tasks
+	 * @param maxThreads supplies the maximum number of threads of the pool
+	 * @param queuedTasks supplies the number of tasks waiting for a thread
+	 * @param maxUtilization the maximum fraction (between 0 and 1) of threads that may be busy
+	 * @param maxQueuedTasks the maximum number of tasks that may be waiting
+	 */
+	public ThreadPoolSaturationHealthCheck(String name, IntSupplier activeThreads, IntSupplier maxThreads, IntSupplier queuedTasks, double maxUtilization, int maxQueuedTasks) {
+		Assert.hasText(name, "'name' must not be empty");
+		Assert.notNull(activeThreads, "'activeThreads' must not be null");
+		Assert.notNull(maxThreads, "'maxThreads' must not be null");
+		Assert.notNull(queuedTasks, "'queuedTasks' must not be null");
+		Assert.isTrue(maxUtilization > 0 && maxUtilization <= 1, "'maxUtilization' must be between 0 and 1");
+		Assert.isTrue(maxQueuedTasks >= 0, "'maxQueuedTasks' must not be negative");
+
+		this.name = name;
+		this.activeThreads = activeThreads;
+		this.maxThreads = maxThreads;
+		this.queuedTasks = queuedTasks;
+		this.maxUtilization = maxUtilization;
+		this.maxQueuedTasks = maxQueuedTasks;
+		this.metadata = Map.of("maxUtilization", String.valueOf(maxUtilization), "maxQueuedTasks", String.valueOf(maxQueuedTasks));
+	}
+
+	/**
+	 * Creates a new {@code ThreadPoolSaturationHealthCheck} for a {@link ThreadPoolExecutor}.
+	 *
+	 * @param name the name of the component
+	 * @param threadPoolExecutor the executor to check
+	 * @param maxUtilization the maximum fraction (between 0 and 1) of threads that may be busy
+	 * @param maxQueuedTasks the maximum number of tasks that may be waiting
+	 * @return the health check
+	 */
+	public static ThreadPoolSaturationHealthCheck forExecutor(String name, ThreadPoolExecutor threadPoolExecutor, double maxUtilization, int maxQueuedTasks) {
+		return new ThreadPoolSaturationHealthCheck(name,
+				threadPoolExecutor::getActiveCount,
+				threadPoolExecutor::getMaximumPoolSize,
+				() -> threadPoolExecutor.getQueue().size(),
+				maxUtilization,
+				maxQueuedTasks);
+	}
+
+	/**
+	 * Creates a new {@code ThreadPoolSaturationHealthCheck} for the request worker pools of Tomcat, read from its
+	 * {@code Tomcat:type=ThreadPool} MBeans (one per connector, summed). Tomcat does not expose the number of queued
+	 * requests, so only thread utilization is checked.
+	 *
+	 * <p>With Spring Boot's embedded Tomcat, the MBeans are only registered when
+	 * {@code server.tomcat.mbeanregistry.enabled} is {@code true}; while no MBean is registered, the check succeeds.</p>
+	 *
+	 * @param name the name of the component
+	 * @param maxUtilization the maximum fraction (between 0 and 1) of threads that may be busy
+	 * @return the health check
+	 */
+	public static ThreadPoolSaturationHealthCheck forTomcat(String name, double maxUtilization) {
+		final var mBeanServer = ManagementFactory.getPlatformMBeanServer();
+		final var objectName = objectName("Tomcat:type=ThreadPool,name=*");
+
+		return new ThreadPoolSaturationHealthCheck(name,
+				mBeanAttribute(mBeanServer, objectName, "currentThreadsBusy"),
+				mBeanAttribute(mBeanServer, objectName, "maxThreads"),
+				() -> 0,
+				maxUtilization,
+				0);
+	}
+
+	/**
+	 * Returns a supplier of the sum of a numeric attribute over the MBeans matching a pattern. The matching MBeans are
+	 * looked up again only when MBeans have been registered or unregistered since the last read, since they may be
+	 * registered after the health check is created (Tomcat registers them when the web server starts).
+	 */
+	static IntSupplier mBeanAttribute(MBeanServer mBeanServer, ObjectName objectName, String attribute) {
+		return new MBeanAttribute(mBeanServer, objectName, attribute);
+	}
+
+	static ObjectName objectName(String name) {
+		try {
+			return new ObjectName(name);
+		}
+		catch (MalformedObjectNameException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public void execute() {
+		final var queued = queuedTasks.getAsInt();
+
+		if (queued > maxQueuedTasks) {
+			throw new IllegalStateException(format("Pool [%s] has [%d] queued tasks, more than [%d]", name, queued, maxQueuedTasks));
+		}
+
+		final var max = maxThreads.getAsInt();
+		final var active = activeThreads.getAsInt();
+
+		if (max > 0 && (double) active / max > maxUtilization) {
+			throw new IllegalStateException(format("Pool [%s] has [%d] of [%d] threads busy, more than [%.2f]", name, active, max, maxUtilization));
+		}
+	}
+
+	@Override
+	public Map<String, String> getMetadata() {
+		return metadata;
+	}
+
+	/**
+	 * The sum of a numeric attribute over the MBeans matching a pattern.
+	 */
+	private static final class MBeanAttribute implements IntSupplier {
+
+		private final MBeanServer mBeanServer;
+
+		private final ObjectName objectName;
+
+		private final String attribute;
+
+		private volatile MatchingNames matchingNames = new MatchingNames(-1, new ObjectName[0]);
+
+		MBeanAttribute(MBeanServer mBeanServer, ObjectName objectName, String attribute) {
+			this.mBeanServer = mBeanServer;
+			this.objectName = objectName;
+			this.attribute = attribute;
+		}
+
+		@Override
+		public int getAsInt() {
+			var total = 0;
+
+			for (final var name : getMatchingNames()) {
+				try {
+					if (mBeanServer.getAttribute(name, attribute) instanceof Number value) { total += value.intValue(); }
+				}
+				catch (JMException e) {
+					// the MBean was unregistered concurrently, or does not have the attribute
+				}
+			}
+
+			return total;
+		}
+
+		private ObjectName[] getMatchingNames() {
+			final var mBeanCount = mBeanServer.getMBeanCount();
+			var matchingNames = this.matchingNames;
+
+			if (matchingNames.mBeanCount() != mBeanCount) {
+				matchingNames = new MatchingNames(mBeanCount, mBeanServer.queryNames(objectName, null).toArray(ObjectName[]::new));
+				this.matchingNames = matchingNames;
+			}
+
+			return matchingNames.names();
+		}
+
+		private record MatchingNames(int mBeanCount, ObjectName[] names) {}
+
+	}
+
+}
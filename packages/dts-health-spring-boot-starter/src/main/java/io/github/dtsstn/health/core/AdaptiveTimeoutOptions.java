@@ -0,0 +1,42 @@
+package io.github.dtsstn.health.core;
+
+import org.immutables.value.Value.Immutable;
+
+/**
+ * Options for adapting the timeout of each component to its observed latency. The effective timeout of a component is
+ * {@code multiplier × p99} of its latency, clamped between the minimum and maximum timeouts, and never longer than the
+ * timeout of the request.
+ */
+@Immutable
+public interface AdaptiveTimeoutOptions {
+
+	/**
+	 * Returns the factor applied to the observed p99 latency.
+	 *
+	 * @return the multiplier
+	 */
+	double getMultiplier();
+
+	/**
+	 * Returns the lower bound of the effective timeout, in milliseconds.
+	 *
+	 * @return the minimum timeout
+	 */
+	long getMinTimeoutMillis();
+
+	/**
+	 * Returns the upper bound of the effective timeout, in milliseconds.
+	 *
+	 * @return the maximum timeout
+	 */
+	long getMaxTimeoutMillis();
+
+	/**
+	 * Returns the number of observations needed before the timeout adapts. Until then, the request timeout (bounded by
+	 * the maximum timeout) is used.
+	 *
+	 * @return the minimum number of samples
+	 */
+	int getMinSamples();
+
+}
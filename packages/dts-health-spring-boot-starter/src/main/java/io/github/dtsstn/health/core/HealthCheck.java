@@ -9,6 +9,29 @@ import java.util.Map;
  */
 public interface HealthCheck {
 
+	/**
+	 * The scheduling priorities of health checks, from highest to lowest.
+	 */
+	enum Priority {
+
+		/**
+		 * Health checks that readiness depends on, such as the primary database. They run on reserved threads when a
+		 * {@link HealthCheckExecutor} is used.
+		 */
+		CRITICAL,
+
+		/**
+		 * The default priority, for health checks that neither readiness depends on nor are merely diagnostic.
+		 */
+		NORMAL,
+
+		/**
+		 * Slow or low-value diagnostics, which only run when no higher-priority health check is waiting.
+		 */
+		LOW;
+
+	}
+
 	/**
 	 * Gets the name of the component or service that this health check applies to.
 	 *
@@ -33,4 +56,13 @@ public interface HealthCheck {
 		return emptyMap();
 	}
 
+	/**
+	 * Returns the scheduling priority of this health check.
+	 *
+	 * @return the priority of this health check; by default, {@link Priority#NORMAL}
+	 */
+	default Priority getPriority() {
+		return Priority.NORMAL;
+	}
+
 }
@@ -0,0 +1,39 @@
+package io.github.dtsstn.health.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JDK Flight Recorder event for the execution of a single health check component. The event's duration spans from
+ * the submission of the check to its result (or timeout).
+ */
+@Name("io.github.dtsstn.health.HealthCheck")
+@Label("Health Check")
+@Category({ "DTS", "Health" })
+@Description("Execution of a single health check component")
+@StackTrace(false)
+final class HealthCheckEvent extends jdk.jfr.Event {
+
+	@Label("Component")
+	String name;
+
+	@Label("Status")
+	String status;
+
+	@Label("Timed Out")
+	boolean timedOut;
+
+	@Label("Timeout")
+	@Timespan(Timespan.MILLISECONDS)
+	long timeout;
+
+	@Label("Queue Wait")
+	@Description("Time between the submission of the check and the start of its execution")
+	@Timespan(Timespan.NANOSECONDS)
+	long queueWait;
+
+}
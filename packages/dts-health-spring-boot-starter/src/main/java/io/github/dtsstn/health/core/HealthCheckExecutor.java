@@ -0,0 +1,136 @@
+package io.github.dtsstn.health.core;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.util.Assert;
+
+import io.github.dtsstn.health.core.HealthCheck.Priority;
+import jakarta.annotation.Nullable;
+
+/**
+ * Executes health checks by {@link Priority priority}, on worker threads separate from the common pool.
+ *
+ * <p>A small number of threads is reserved for {@link Priority#CRITICAL critical} health checks, so that they never
+ * wait behind slow, lower-priority ones. The other health checks (and critical ones, when every reserved thread is
+ * busy) share the remaining threads, which take queued checks in priority order and, within a priority, in submission
+ * order.</p>
+ */
+public class HealthCheckExecutor implements AutoCloseable {
+
+	private final int criticalThreads;
+
+	private final AtomicInteger busyCriticalThreads = new AtomicInteger();
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	@Nullable
+	private final ThreadPoolExecutor criticalThreadPool;
+
+	private final ThreadPoolExecutor sharedThreadPool;
+
+	/**
+	 * Creates a new {@code HealthCheckExecutor}.
+	 *
+	 * @param threads the number of threads shared by all health checks
+	 * @param criticalThreads the number of additional threads reserved for critical health checks
+	 */
+	public HealthCheckExecutor(int threads, int criticalThreads) {
+		Assert.isTrue(threads > 0, "'threads' must be positive");
+		Assert.isTrue(criticalThreads >= 0, "'criticalThreads' must not be negative");
+
+		this.criticalThreads = criticalThreads;
+
+		this.criticalThreadPool = criticalThreads > 0
+				? new ThreadPoolExecutor(criticalThreads, criticalThreads, 0, MILLISECONDS, new LinkedBlockingQueue<>(), Thread.ofPlatform().name("dts-health-critical-", 0).daemon().factory())
+				: null;
+
+		this.sharedThreadPool = new ThreadPoolExecutor(threads, threads, 0, MILLISECONDS, new PriorityBlockingQueue<>(), Thread.ofPlatform().name("dts-health-", 0).daemon().factory());
+	}
+
+	/**
+	 * Returns an {@link Executor} that submits tasks with the given priority.
+	 *
+	 * @param priority the priority of the tasks
+	 * @return the executor
+	 */
+	public Executor forPriority(Priority priority) {
+		Assert.notNull(priority, "'priority' must not be null");
+		return task -> execute(priority, task);
+	}
+
+	/**
+	 * Executes a task with the given priority.
+	 *
+	 * @param priority the priority of the task
+	 * @param task the task to execute
+	 * @throws RejectedExecutionException if this executor has been closed
+	 */
+	public void execute(Priority priority, Runnable task) {
+		if (priority == Priority.CRITICAL && tryAcquireCriticalThread()) {
+			try {
+				criticalThreadPool.execute(() -> {
+					try {
+						task.run();
+					}
+					finally {
+						busyCriticalThreads.decrementAndGet();
+					}
+				});
+			}
+			catch (RejectedExecutionException e) {
+				busyCriticalThreads.decrementAndGet();
+				throw e;
+			}
+
+			return;
+		}
+
+		sharedThreadPool.execute(new PrioritizedTask(priority, sequence.getAndIncrement(), task));
+	}
+
+	/**
+	 * Returns the number of tasks waiting for a shared thread.
+	 *
+	 * @return the number of queued tasks
+	 */
+	public int getQueuedTasks() {
+		return sharedThreadPool.getQueue().size();
+	}
+
+	@Override
+	public void close() {
+		if (criticalThreadPool != null) { criticalThreadPool.shutdownNow(); }
+		sharedThreadPool.shutdownNow();
+	}
+
+	private boolean tryAcquireCriticalThread() {
+		return busyCriticalThreads.getAndUpdate(busy -> busy < criticalThreads ? busy + 1 : busy) < criticalThreads;
+	}
+
+	/**
+	 * A task ordered by priority, then by submission order.
+	 */
+	private record PrioritizedTask(Priority priority, long sequence, Runnable task) implements Runnable, Comparable<PrioritizedTask> {
+
+		@Override
+		public void run() {
+			task.run();
+		}
+
+		@Override
+		public int compareTo(PrioritizedTask other) {
+			final var byPriority = priority.compareTo(other.priority);
+			return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+		}
+
+	}
+
+}
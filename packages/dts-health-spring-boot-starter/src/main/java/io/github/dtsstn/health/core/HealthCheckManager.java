@@ -1,26 +1,366 @@
 package io.github.dtsstn.health.core;
 
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNullElse;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
 
 import com.google.common.base.Stopwatch;
 
 import io.github.dtsstn.health.core.HealthResult.ComponentHealthResult;
 import io.github.dtsstn.health.core.HealthResult.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.Nullable;
 
 /**
  * Manages the execution and aggregation of health checks for components.
  */
 public class HealthCheckManager {
 
+	static final Logger log = LoggerFactory.getLogger(HealthCheckManager.class);
+
+	// the executor used by CompletableFuture.supplyAsync(Supplier): the common pool, or a thread per task if the common pool has a single thread
+	static final Executor DEFAULT_EXECUTOR = new CompletableFuture<Void>().defaultExecutor();
+
+	/**
+	 * The name of the observation covering a whole {@link #executeChecks} call.
+	 */
+	public static final String CHECKS_OBSERVATION_NAME = "dts.health.checks";
+
+	/**
+	 * The name of the observation covering the execution of a single component.
+	 */
+	public static final String CHECK_OBSERVATION_NAME = "dts.health.check";
+
+	/**
+	 * The name of the counter of hedged (second) attempts issued, tagged by component.
+	 */
+	public static final String HEDGES_METER_NAME = "dts.health.hedges";
+
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+	private boolean propagateTraceContext = false;
+
+	private boolean recordStuckLocations = false;
+
+	private boolean flightRecorderEvents = false;
+
+	@Nullable
+	private volatile AdaptiveTimeoutOptions adaptiveTimeoutOptions;
+
+	private Set<String> hedgedComponents = Set.of();
+
+	private int hedgingMinSamples = 20;
+
+	@Nullable
+	private MeterRegistry meterRegistry;
+
+	private final LongAdder hedgeCount = new LongAdder();
+
+	private List<HealthStatusListener> statusListeners = List.of();
+
+	private Executor statusListenerExecutor = ForkJoinPool.commonPool();
+
+	// guarded by this; only maintained while there are status listeners
+	private final Map<String, ComponentHealthResult.Status> componentStatuses = new HashMap<>();
+
+	@Nullable
+	private Status lastStatus;
+
+	private CompletableFuture<Void> statusListenerDispatch = CompletableFuture.completedFuture(null);
+
+	@Nullable
+	private HealthCheckExecutor healthCheckExecutor;
+
+	@Nullable
+	private HealthJournal healthJournal;
+
+	private boolean cacheMetadata = false;
+
+	@Nullable
+	private Duration metadataRefreshInterval;
+
+	private final Map<String, CachedMetadata> cachedMetadata = new ConcurrentHashMap<>();
+
+	private int maxComponentsPerRequest = 0;
+
+	private final Map<String, Long> lastScheduledNanos = new ConcurrentHashMap<>();
+
+	private final Map<String, SampledResult> sampledResults = new ConcurrentHashMap<>();
+
+	private final Map<String, LatencyEstimator> latencyEstimators = new ConcurrentHashMap<>();
+
+	private final Map<String, Map<String, LongAdder>> stuckLocations = new ConcurrentHashMap<>();
+
+	/**
+	 * Sets the registry used to observe (trace) health check executions. Defaults to {@link ObservationRegistry#NOOP},
+	 * in which case observation adds no measurable overhead.
+	 *
+	 * @param observationRegistry the observation registry
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+		Assert.notNull(observationRegistry, "'observationRegistry' must not be null");
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * Sets whether a component's observation is made current while its health check executes, so that the trace
+	 * context is propagated into the downstream calls the check makes. Defaults to {@code false}, which keeps probe
+	 * traffic out of downstream traces.
+	 *
+	 * @param propagateTraceContext whether to propagate the trace context into health checks
+	 */
+	public void setPropagateTraceContext(boolean propagateTraceContext) {
+		this.propagateTraceContext = propagateTraceContext;
+	}
+
+	/**
+	 * Sets whether the top stack frame of each timed-out health check is counted, per component, in the histogram
+	 * returned by {@link #getStuckLocations()}. Defaults to {@code false}.
+	 *
+	 * @param recordStuckLocations whether to record stuck locations
+	 */
+	public void setRecordStuckLocations(boolean recordStuckLocations) {
+		this.recordStuckLocations = recordStuckLocations;
+	}
+
+	/**
+	 * Sets whether JDK Flight Recorder events are emitted for each {@link #executeChecks} call and each component
+	 * execution. Defaults to {@code false}, in which case no event objects are created. When enabled, events are still
+	 * only recorded while a recording with the {@code io.github.dtsstn.health.*} events enabled is running.
+	 *
+	 * @param flightRecorderEvents whether to emit Flight Recorder events
+	 */
+	public void setFlightRecorderEvents(boolean flightRecorderEvents) {
+		this.flightRecorderEvents = flightRecorderEvents;
+	}
+
+	/**
+	 * Sets the options for adapting each component's timeout to its observed latency. Defaults to {@code null}, in which
+	 * case every component uses the timeout of the request.
+	 *
+	 * @param adaptiveTimeoutOptions the adaptive timeout options, or {@code null} to disable adaptive timeouts
+	 */
+	public void setAdaptiveTimeoutOptions(@Nullable AdaptiveTimeoutOptions adaptiveTimeoutOptions) {
+		this.adaptiveTimeoutOptions = adaptiveTimeoutOptions;
+	}
+
+	/**
+	 * Sets the names of the components whose execution is hedged: if such a component has not completed by its
+	 * observed p95 latency, a second attempt is launched in parallel and the first one to succeed is used. Defaults to
+	 * none.
+	 *
+	 * @param hedgedComponents the names of the hedged components
+	 */
+	public void setHedgedComponents(Collection<String> hedgedComponents) {
+		Assert.notNull(hedgedComponents, "'hedgedComponents' must not be null");
+		this.hedgedComponents = Set.copyOf(hedgedComponents);
+	}
+
+	/**
+	 * Sets the number of executions of a hedged component observed before its p95 latency is trusted and hedging
+	 * starts. Defaults to {@code 20}.
+	 *
+	 * @param hedgingMinSamples the minimum number of samples
+	 */
+	public void setHedgingMinSamples(int hedgingMinSamples) {
+		this.hedgingMinSamples = hedgingMinSamples;
+	}
+
+	/**
+	 * Sets the registry in which the {@value #HEDGES_METER_NAME} counter is registered. Defaults to {@code null}, in
+	 * which case hedges are only counted by {@link #getHedgeCount()}.
+	 *
+	 * @param meterRegistry the meter registry, or {@code null}
+	 */
+	public void setMeterRegistry(@Nullable MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * Returns the number of hedged (second) attempts issued since this manager was created.
+	 *
+	 * @return the number of hedges
+	 */
+	public long getHedgeCount() {
+		return hedgeCount.sum();
+	}
+
+	/**
+	 * Sets the listeners notified of component and aggregate status transitions. Defaults to none, in which case
+	 * statuses are not tracked at all.
+	 *
+	 * @param statusListeners the status listeners
+	 */
+	public void setStatusListeners(Collection<? extends HealthStatusListener> statusListeners) {
+		Assert.notNull(statusListeners, "'statusListeners' must not be null");
+		this.statusListeners = List.copyOf(statusListeners);
+	}
+
+	/**
+	 * Sets the executor on which status listeners are notified. Notifications are submitted one at a time, so that
+	 * listeners observe transitions in order. Defaults to the {@link ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param statusListenerExecutor the executor used to notify status listeners
+	 */
+	public void setStatusListenerExecutor(Executor statusListenerExecutor) {
+		Assert.notNull(statusListenerExecutor, "'statusListenerExecutor' must not be null");
+		this.statusListenerExecutor = statusListenerExecutor;
+	}
+
+	/**
+	 * Sets the executor on which health checks run, by priority. Defaults to {@code null}, in which case health checks
+	 * run on the common pool in no particular order, competing with the threads waiting for them.
+	 *
+	 * @param healthCheckExecutor the health check executor, or {@code null}
+	 */
+	public void setHealthCheckExecutor(@Nullable HealthCheckExecutor healthCheckExecutor) {
+		this.healthCheckExecutor = healthCheckExecutor;
+	}
+
+	/**
+	 * Sets the journal to which the status and response time of every executed component is appended. Defaults to
+	 * {@code null}, in which case no history is kept.
+	 *
+	 * @param healthJournal the health journal, or {@code null}
+	 */
+	public void setHealthJournal(@Nullable HealthJournal healthJournal) {
+		this.healthJournal = healthJournal;
+	}
+
+	/**
+	 * Sets whether the metadata of each health check is cached, rather than obtained from
+	 * {@link HealthCheck#getMetadata()} on every detailed request. Defaults to {@code false}.
+	 *
+	 * @param cacheMetadata whether to cache health check metadata
+	 * @see #setMetadataRefreshInterval(Duration)
+	 * @see #invalidateMetadata(String)
+	 */
+	public void setCacheMetadata(boolean cacheMetadata) {
+		this.cacheMetadata = cacheMetadata;
+	}
+
+	/**
+	 * Sets how long cached metadata is used before it is obtained again. Defaults to {@code null}, in which case cached
+	 * metadata is used until it is {@link #invalidateMetadata(String) invalidated}.
+	 *
+	 * @param metadataRefreshInterval the metadata refresh interval, or {@code null} to never refresh
+	 */
+	public void setMetadataRefreshInterval(@Nullable Duration metadataRefreshInterval) {
+		this.metadataRefreshInterval = metadataRefreshInterval;
+	}
+
+	/**
+	 * Discards the cached metadata of a health check, so that it is obtained again on the next detailed request.
+	 *
+	 * @param healthCheckName the name of the health check
+	 */
+	public void invalidateMetadata(String healthCheckName) {
+		Assert.notNull(healthCheckName, "'healthCheckName' must not be null");
+		cachedMetadata.remove(healthCheckName);
+	}
+
+	/**
+	 * Discards the cached metadata of all health checks.
+	 */
+	public void invalidateMetadata() {
+		cachedMetadata.clear();
+	}
+
+	/**
+	 * Discards everything this manager keeps about a component: its latency history (and so its adaptive timeout and
+	 * hedge delay), last known status, last result, stuck locations and cached metadata. Called when a health check is
+	 * unregistered, so that state does not accumulate as components come and go, and so that a component registered
+	 * again under the same name starts afresh.
+	 *
+	 * @param healthCheckName the name of the component
+	 * @see HealthCheckRegistry#addUnregistrationListener
+	 */
+	public void forget(String healthCheckName) {
+		Assert.notNull(healthCheckName, "'healthCheckName' must not be null");
+
+		latencyEstimators.remove(healthCheckName);
+		lastScheduledNanos.remove(healthCheckName);
+		sampledResults.remove(healthCheckName);
+		stuckLocations.remove(healthCheckName);
+		cachedMetadata.remove(healthCheckName);
+
+		synchronized (this) {
+			componentStatuses.remove(healthCheckName);
+		}
+	}
+
+	/**
+	 * Returns the names of the components this manager keeps any state about.
+	 */
+	synchronized Set<String> getTrackedComponents() {
+		final var trackedComponents = new TreeSet<String>();
+		trackedComponents.addAll(latencyEstimators.keySet());
+		trackedComponents.addAll(lastScheduledNanos.keySet());
+		trackedComponents.addAll(sampledResults.keySet());
+		trackedComponents.addAll(stuckLocations.keySet());
+		trackedComponents.addAll(cachedMetadata.keySet());
+		trackedComponents.addAll(componentStatuses.keySet());
+		return trackedComponents;
+	}
+
+	/**
+	 * Sets the maximum number of components executed per request. When more components are included in a request, the
+	 * ones that have gone the longest without being executed are executed, and the last known results of the others
+	 * are served with their {@link ComponentHealthResult#getAgeMs() age}, so that every component is executed at
+	 * least once every {@code ceil(components / maxComponentsPerRequest)} requests. Defaults to {@code 0}, in which
+	 * case every included component is executed, as it is for requests with
+	 * {@link HealthCheckOptions#getExecuteAllComponents()} set.
+	 *
+	 * @param maxComponentsPerRequest the maximum number of components executed per request, or {@code 0} for no limit
+	 */
+	public void setMaxComponentsPerRequest(int maxComponentsPerRequest) {
+		Assert.isTrue(maxComponentsPerRequest >= 0, "'maxComponentsPerRequest' must not be negative");
+		this.maxComponentsPerRequest = maxComponentsPerRequest;
+	}
+
 	/**
 	 * Executes a collection of health checks and aggregates their results.
 	 *
@@ -33,10 +373,22 @@ public class HealthCheckManager {
 
 		final var stopwatch = Stopwatch.createStarted();
 
-		final var componentHealthResults = healthChecks.parallelStream()
-				.filter(isComponentIncluded)
-				.map(healthCheck -> executeCheckWithTimeout(healthCheck, healthCheckOptions.getTimeoutMillis(), healthCheckOptions.getIncludeDetails()))
-				.toList();
+		final var observation = Observation.createNotStarted(CHECKS_OBSERVATION_NAME, observationRegistry)
+				.contextualName("dts health checks")
+				.start();
+
+		final var event = flightRecorderEvents ? new HealthChecksEvent() : null;
+		if (event != null) { event.begin(); }
+
+		final Function<List<HealthCheck>, List<ComponentHealthResult>> executor = components ->
+				executeComponents(components, healthCheckOptions.getTimeoutMillis(), healthCheckOptions.getIncludeDetails(), observation);
+
+		final var includedHealthChecks = healthChecks.stream().filter(isComponentIncluded).toList();
+		final var maxComponentsPerRequest = healthCheckOptions.getExecuteAllComponents() ? 0 : this.maxComponentsPerRequest;
+
+		final var componentHealthResults = maxComponentsPerRequest > 0
+				? executeSample(includedHealthChecks, maxComponentsPerRequest, healthCheckOptions.getIncludeDetails(), executor)
+				: executor.apply(includedHealthChecks);
 
 		final var allStatuses = componentHealthResults.stream()
 				.map(ComponentHealthResult::getStatus)
@@ -44,13 +396,175 @@ public class HealthCheckManager {
 
 		final var aggregateStatus = aggregateStatus(allStatuses);
 
-		return ImmutableHealthResult.builder()
+		if (!observation.isNoop()) {
+			observation.lowCardinalityKeyValue("dts.health.status", aggregateStatus.name())
+					.highCardinalityKeyValue("dts.health.timeout.ms", String.valueOf(healthCheckOptions.getTimeoutMillis()))
+					.highCardinalityKeyValue("dts.health.components", String.valueOf(componentHealthResults.size()));
+		}
+
+		observation.stop();
+
+		if (event != null) {
+			event.end();
+
+			if (event.shouldCommit()) {
+				event.status = aggregateStatus.name();
+				event.components = componentHealthResults.size();
+				event.timeout = healthCheckOptions.getTimeoutMillis();
+				event.commit();
+			}
+		}
+
+		final var healthResult = ImmutableHealthResult.builder()
 				.status(aggregateStatus)
 				.responseTimeMs(stopwatch.elapsed(MILLISECONDS))
 				.version(healthCheckOptions.getVersion())
 				.buildId(healthCheckOptions.getBuildId())
 				.components(componentHealthResults)
 				.build();
+
+		final var healthJournal = this.healthJournal;
+
+		if (healthJournal != null) {
+			final var epochMillis = System.currentTimeMillis();
+
+			for (final var componentHealthResult : componentHealthResults) {
+				// served (sampled) results were journaled when they were obtained
+				if (componentHealthResult.getAgeMs() != null) { continue; }
+				healthJournal.append(componentHealthResult.getName(), componentHealthResult.getStatus(), requireNonNullElse(componentHealthResult.getResponseTimeMs(), 0L), epochMillis);
+			}
+		}
+
+		if (!statusListeners.isEmpty()) {
+			final var isAllComponents = healthCheckOptions.getIncludeComponents().isEmpty() && healthCheckOptions.getExcludeComponents().isEmpty();
+			publishStatusChanges(healthResult, componentHealthResults, isAllComponents);
+		}
+
+		return healthResult;
+	}
+
+	/**
+	 * Compares the statuses of a result with the last known statuses and notifies the status listeners of any
+	 * transitions.
+	 *
+	 * @param healthResult the aggregated result
+	 * @param componentHealthResults the results of the executed components
+	 * @param isAllComponents whether all components were executed, so that the aggregate status is meaningful
+	 */
+	protected synchronized void publishStatusChanges(HealthResult healthResult, Collection<ComponentHealthResult> componentHealthResults, boolean isAllComponents) {
+		for (final var componentHealthResult : componentHealthResults) {
+			final var previousStatus = componentStatuses.put(componentHealthResult.getName(), componentHealthResult.getStatus());
+
+			if (previousStatus != componentHealthResult.getStatus()) {
+				notifyStatusListeners(listener -> listener.onComponentStatusChanged(previousStatus, componentHealthResult));
+			}
+		}
+
+		if (isAllComponents && lastStatus != healthResult.getStatus()) {
+			final var previousStatus = lastStatus;
+			lastStatus = healthResult.getStatus();
+			notifyStatusListeners(listener -> listener.onStatusChanged(previousStatus, healthResult));
+		}
+	}
+
+	private void notifyStatusListeners(Consumer<HealthStatusListener> notification) {
+		// chained so that listeners observe transitions in the order they were detected (caller holds the lock)
+		statusListenerDispatch = statusListenerDispatch
+				.thenRunAsync(() -> statusListeners.forEach(listener -> {
+					try {
+						notification.accept(listener);
+					}
+					catch (RuntimeException e) {
+						log.warn("Health status listener [{}] failed", listener, e);
+					}
+				}), statusListenerExecutor)
+				// a rejected or failed notification is dropped, rather than failing every notification chained after it
+				.exceptionally(e -> {
+					log.warn("Health status listeners could not be notified", e);
+					return null;
+				});
+	}
+
+	/**
+	 * Executes the components that have gone the longest without being executed, and serves the last known results of
+	 * the others. Components that have never been executed are always chosen first, so a component that is not
+	 * executed by a request is only missing from its result until it has been executed once.
+	 *
+	 * @param healthChecks the included health checks
+	 * @param maxComponents the maximum number of components to execute
+	 * @param includeDetails whether to include detailed health check results
+	 * @param executor executes the chosen components, returning their results in the same order
+	 * @return the results of the executed components, followed by the served results of the others
+	 */
+	protected List<ComponentHealthResult> executeSample(List<HealthCheck> healthChecks, int maxComponents, boolean includeDetails, Function<List<HealthCheck>, List<ComponentHealthResult>> executor) {
+		final var scheduledNanos = System.nanoTime();
+
+		// sorted over a snapshot, since concurrent requests update the schedule while this one sorts
+		final var candidates = healthChecks.stream()
+				.map(healthCheck -> new SampleCandidate(healthCheck, lastScheduledNanos.get(healthCheck.getName())))
+				.sorted(Comparator.comparingLong(candidate -> candidate.lastScheduledNanos() != null ? candidate.lastScheduledNanos() : Long.MIN_VALUE))
+				.toList();
+
+		final var sample = new ArrayList<HealthCheck>(Math.min(maxComponents, candidates.size()));
+		final var claimedNames = new HashSet<String>();
+
+		for (final var candidate : candidates) {
+			if (sample.size() >= maxComponents) { break; }
+
+			// claimed before execution, and only if no concurrent request has claimed it since the snapshot
+			final var name = candidate.healthCheck().getName();
+			final var isClaimed = claimedNames.contains(name) || (candidate.lastScheduledNanos() == null
+					? lastScheduledNanos.putIfAbsent(name, scheduledNanos) == null
+					: lastScheduledNanos.replace(name, candidate.lastScheduledNanos(), scheduledNanos));
+
+			if (isClaimed) {
+				claimedNames.add(name);
+				sample.add(candidate.healthCheck());
+			}
+		}
+
+		final var componentHealthResults = new ArrayList<ComponentHealthResult>(executor.apply(sample));
+		componentHealthResults.forEach(componentHealthResult -> sampledResults.put(componentHealthResult.getName(), new SampledResult(componentHealthResult, System.nanoTime())));
+
+		final var sampleNames = sample.stream().map(HealthCheck::getName).collect(Collectors.toSet());
+
+		for (final var healthCheck : healthChecks) {
+			if (sampleNames.contains(healthCheck.getName())) { continue; }
+
+			final var sampledResult = sampledResults.get(healthCheck.getName());
+
+			if (sampledResult != null) {
+				final var ageMillis = MILLISECONDS.convert(System.nanoTime() - sampledResult.executedNanos(), NANOSECONDS);
+				componentHealthResults.add(buildSampledResult(sampledResult.componentHealthResult(), ageMillis, includeDetails));
+			}
+		}
+
+		return componentHealthResults;
+	}
+
+	/**
+	 * Builds the result served for a component that was not executed, from its last known result.
+	 *
+	 * @param lastResult the last known result of the component
+	 * @param ageMillis the age of the last known result in milliseconds
+	 * @param includeDetails whether to include detailed health check results
+	 * @return the served {@link ComponentHealthResult}
+	 */
+	protected ComponentHealthResult buildSampledResult(ComponentHealthResult lastResult, long ageMillis, boolean includeDetails) {
+		final var resultBuilder = ImmutableComponentHealthResult.builder()
+				.name(lastResult.getName())
+				.status(lastResult.getStatus())
+				.responseTimeMs(lastResult.getResponseTimeMs())
+				.ageMs(ageMillis);
+
+		// the last result may have been obtained by a request with a different level of detail
+		if (includeDetails) {
+			resultBuilder.metadata(lastResult.getMetadata())
+					.errorDetails(lastResult.getErrorDetails())
+					.stackTrace(lastResult.getStackTrace());
+		}
+
+		return resultBuilder.build();
 	}
 
 	/**
@@ -71,6 +585,121 @@ public class HealthCheckManager {
 		};
 	}
 
+	/**
+	 * Executes the components of a health check request. Every component is submitted before any result is awaited,
+	 * highest priority first, so that a critical check is never left unsubmitted behind lower-priority checks that are
+	 * still running; the results are then awaited in the same order.
+	 *
+	 * @param healthChecks the health checks to execute
+	 * @param requestTimeoutMillis the timeout of the request in milliseconds
+	 * @param includeDetails whether to include detailed health check results
+	 * @param observation the observation of the request, which is the parent of the observation of each component
+	 * @return the {@link ComponentHealthResult} of each health check, in the same order as the health checks
+	 */
+	protected List<ComponentHealthResult> executeComponents(List<HealthCheck> healthChecks, long requestTimeoutMillis, boolean includeDetails, Observation observation) {
+		// a stable sort, so that checks of the same priority are submitted in their registration order
+		final var submissionOrder = IntStream.range(0, healthChecks.size()).boxed()
+				.sorted(Comparator.comparing(index -> requireNonNullElse(healthChecks.get(index).getPriority(), HealthCheck.Priority.NORMAL)))
+				.toList();
+
+		final var pendingComponents = new PendingComponent[healthChecks.size()];
+		observation.scoped(() -> submissionOrder.forEach(index -> pendingComponents[index] = submitComponent(healthChecks.get(index), requestTimeoutMillis, includeDetails)));
+
+		final var componentHealthResults = new ComponentHealthResult[healthChecks.size()];
+		submissionOrder.forEach(index -> componentHealthResults[index] = awaitComponent(pendingComponents[index]));
+
+		return Arrays.asList(componentHealthResults);
+	}
+
+	/**
+	 * Executes a single component of a health check request, adapting its timeout to its observed latency when
+	 * adaptive timeouts are enabled and hedging it when it is a hedged component.
+	 *
+	 * @param healthCheck the {@link HealthCheck} to execute
+	 * @param requestTimeoutMillis the timeout of the request in milliseconds
+	 * @param includeDetails whether to include detailed health check results
+	 * @return the {@link ComponentHealthResult} of the executed health check
+	 */
+	protected ComponentHealthResult executeComponent(HealthCheck healthCheck, long requestTimeoutMillis, boolean includeDetails) {
+		return awaitComponent(submitComponent(healthCheck, requestTimeoutMillis, includeDetails));
+	}
+
+	private PendingComponent submitComponent(HealthCheck healthCheck, long requestTimeoutMillis, boolean includeDetails) {
+		final var adaptiveTimeoutOptions = this.adaptiveTimeoutOptions;
+		final var isHedged = hedgedComponents.contains(healthCheck.getName());
+
+		if (adaptiveTimeoutOptions == null && !isHedged) {
+			return new PendingComponent(submitCheck(healthCheck, requestTimeoutMillis, 0, includeDetails), null, null);
+		}
+
+		final var latencyEstimator = latencyEstimators.computeIfAbsent(healthCheck.getName(), name -> new LatencyEstimator());
+
+		final var timeoutMillis = adaptiveTimeoutOptions != null
+				? adaptiveTimeoutMillis(latencyEstimator, adaptiveTimeoutOptions, requestTimeoutMillis)
+				: requestTimeoutMillis;
+
+		final var hedgeDelayMillis = isHedged ? hedgeDelayMillis(latencyEstimator, timeoutMillis) : 0;
+
+		return new PendingComponent(submitCheck(healthCheck, timeoutMillis, hedgeDelayMillis, includeDetails), latencyEstimator, adaptiveTimeoutOptions);
+	}
+
+	private ComponentHealthResult awaitComponent(PendingComponent pendingComponent) {
+		final var componentHealthResult = awaitCheck(pendingComponent.pendingCheck());
+
+		final var latencyEstimator = pendingComponent.latencyEstimator();
+		if (latencyEstimator == null) { return componentHealthResult; }
+
+		final var timeoutMillis = pendingComponent.pendingCheck().timeoutMillis();
+
+		// a timed-out check took at least as long as its timeout, so the estimate grows until the timeout stops being hit
+		final var isTimedOut = componentHealthResult.getStatus() == ComponentHealthResult.Status.TIMEDOUT;
+		latencyEstimator.record(isTimedOut ? timeoutMillis : requireNonNullElse(componentHealthResult.getResponseTimeMs(), timeoutMillis));
+
+		if (!pendingComponent.pendingCheck().includeDetails() || pendingComponent.adaptiveTimeoutOptions() == null) { return componentHealthResult; }
+
+		final var metadata = new LinkedHashMap<String, String>(requireNonNullElse(componentHealthResult.getMetadata(), Map.of()));
+		metadata.put("adaptiveTimeoutMs", String.valueOf(timeoutMillis));
+		metadata.put("latencyP99Ms", String.valueOf(Math.round(latencyEstimator.getP99())));
+
+		return ImmutableComponentHealthResult.copyOf(componentHealthResult).withMetadata(metadata);
+	}
+
+	/**
+	 * Computes how long a hedged component may run before a second attempt is launched: its observed p95 latency, once
+	 * enough executions have been observed.
+	 *
+	 * @param latencyEstimator the latency estimate of the component
+	 * @param timeoutMillis the timeout of the component in milliseconds
+	 * @return the hedge delay in milliseconds, or {@code 0} if the component should not be hedged
+	 */
+	long hedgeDelayMillis(LatencyEstimator latencyEstimator, long timeoutMillis) {
+		if (latencyEstimator.getCount() < hedgingMinSamples) { return 0; }
+
+		final var hedgeDelayMillis = Math.max(1, (long) Math.ceil(latencyEstimator.getP95()));
+
+		// a second attempt launched at (or after) the timeout could never win
+		return hedgeDelayMillis < timeoutMillis ? hedgeDelayMillis : 0;
+	}
+
+	/**
+	 * Computes the effective timeout of a component from its observed latency.
+	 *
+	 * @param latencyEstimator the latency estimate of the component
+	 * @param adaptiveTimeoutOptions the adaptive timeout options
+	 * @param requestTimeoutMillis the timeout of the request in milliseconds, which is never exceeded
+	 * @return the effective timeout in milliseconds
+	 */
+	long adaptiveTimeoutMillis(LatencyEstimator latencyEstimator, AdaptiveTimeoutOptions adaptiveTimeoutOptions, long requestTimeoutMillis) {
+		if (latencyEstimator.getCount() < adaptiveTimeoutOptions.getMinSamples()) {
+			return Math.min(requestTimeoutMillis, adaptiveTimeoutOptions.getMaxTimeoutMillis());
+		}
+
+		final var learnedTimeoutMillis = (long) Math.ceil(adaptiveTimeoutOptions.getMultiplier() * latencyEstimator.getP99());
+		final var clampedTimeoutMillis = Math.max(adaptiveTimeoutOptions.getMinTimeoutMillis(), Math.min(adaptiveTimeoutOptions.getMaxTimeoutMillis(), learnedTimeoutMillis));
+
+		return Math.min(requestTimeoutMillis, clampedTimeoutMillis);
+	}
+
 	/**
 	 * Executes a single health check with a specified timeout.
 	 *
@@ -80,17 +709,242 @@ public class HealthCheckManager {
 	 * @return the {@link ComponentHealthResult} of the executed health check
 	 */
 	protected ComponentHealthResult executeCheckWithTimeout(HealthCheck healthCheck, long timeoutMillis, boolean includeDetails) {
-		final var future = CompletableFuture.supplyAsync(() -> executeCheck(healthCheck, includeDetails));
+		return executeCheckWithTimeout(healthCheck, timeoutMillis, 0, includeDetails);
+	}
+
+	/**
+	 * Executes a single health check with a specified timeout, hedging it if it has not completed after the given
+	 * delay.
+	 *
+	 * @param healthCheck the {@link HealthCheck} to execute
+	 * @param timeoutMillis the timeout duration in milliseconds
+	 * @param hedgeDelayMillis the delay after which a second attempt is launched in milliseconds, or {@code 0} to not hedge
+	 * @param includeDetails whether to include detailed health check results
+	 * @return the {@link ComponentHealthResult} of the executed health check
+	 */
+	protected ComponentHealthResult executeCheckWithTimeout(HealthCheck healthCheck, long timeoutMillis, long hedgeDelayMillis, boolean includeDetails) {
+		return awaitCheck(submitCheck(healthCheck, timeoutMillis, hedgeDelayMillis, includeDetails));
+	}
+
+	private PendingCheck submitCheck(HealthCheck healthCheck, long timeoutMillis, long hedgeDelayMillis, boolean includeDetails) {
+		final var observation = Observation.createNotStarted(CHECK_OBSERVATION_NAME, observationRegistry)
+				.parentObservation(observationRegistry.getCurrentObservation())
+				.start();
+
+		final var event = flightRecorderEvents ? new HealthCheckEvent() : null;
+		if (event != null) { event.begin(); }
+
+		// the thread executing the check, so its stack can be sampled if the check times out
+		final var executingThread = new AtomicReference<Thread>();
+		final var submittedNanos = System.nanoTime();
+
+		final Supplier<ComponentHealthResult> attempt = () -> {
+			executingThread.set(Thread.currentThread());
+			if (event != null && event.queueWait == 0) { event.queueWait = System.nanoTime() - submittedNanos; }
+
+			try {
+				return propagateTraceContext
+						? observation.scoped(() -> executeCheck(healthCheck, timeoutMillis, includeDetails))
+						: executeCheck(healthCheck, timeoutMillis, includeDetails);
+			}
+			finally {
+				executingThread.compareAndSet(Thread.currentThread(), null);
+			}
+		};
+
+		final var executor = executorFor(healthCheck);
+
+		CompletableFuture<ComponentHealthResult> future;
+
+		try {
+			future = hedgeDelayMillis > 0
+					? executeHedged(healthCheck.getName(), attempt, hedgeDelayMillis, executor)
+					: CompletableFuture.supplyAsync(attempt, executor);
+		}
+		catch (RejectedExecutionException e) {
+			// the executor has been closed (e.g. while the application shuts down); reported like any other failure
+			future = CompletableFuture.failedFuture(e);
+		}
+
+		final var pendingCheck = new PendingCheck(healthCheck, timeoutMillis, hedgeDelayMillis, includeDetails, observation, event, executingThread, submittedNanos, future, new AtomicBoolean());
+
+		// the span and event end when the check completes, not when the caller gets round to awaiting it
+		future.whenComplete((componentHealthResult, e) -> finishCheck(pendingCheck, e == null
+				? componentHealthResult
+				: buildTimedOutResult(healthCheck.getName(), Map.of(), timeoutMillis, false, new ExecutionException(e))));
+
+		return pendingCheck;
+	}
+
+	private ComponentHealthResult awaitCheck(PendingCheck pendingCheck) {
+		final var healthCheck = pendingCheck.healthCheck();
+		final var timeoutMillis = pendingCheck.timeoutMillis();
+		final var includeDetails = pendingCheck.includeDetails();
+		final var future = pendingCheck.future();
+
+		// the timeout runs from the submission, not from when the caller got round to awaiting this check
+		final var remainingNanos = pendingCheck.submittedNanos() + MILLISECONDS.toNanos(timeoutMillis) - System.nanoTime();
+
+		ComponentHealthResult componentHealthResult;
 
 		try {
-			return future.get(timeoutMillis, MILLISECONDS);
+			componentHealthResult = future.get(remainingNanos, NANOSECONDS);
 		}
-		catch (ExecutionException | TimeoutException e) {
-			return buildTimedOutResult(healthCheck.getName(), healthCheck.getMetadata(), timeoutMillis, includeDetails, e);
+		catch (TimeoutException e) {
+			// sampling requires a safepoint, so it is skipped when the stack would be thrown away
+			final var hungStackTrace = includeDetails || recordStuckLocations ? sampleStackTrace(pendingCheck.executingThread()) : null;
+			recordStuckLocation(healthCheck.getName(), hungStackTrace);
+
+			componentHealthResult = buildTimedOutResult(healthCheck.getName(), includeDetails ? getMetadata(healthCheck) : Map.of(), timeoutMillis, includeDetails, e, hungStackTrace);
+
+			// finished as timed out before the cancellation below completes the future
+			finishCheck(pendingCheck, componentHealthResult);
+
+			// interrupts the hedged attempts (other attempts are left to run to completion, as before)
+			if (pendingCheck.hedgeDelayMillis() > 0) { future.cancel(true); }
+		}
+		catch (ExecutionException e) {
+			componentHealthResult = buildTimedOutResult(healthCheck.getName(), includeDetails ? getMetadata(healthCheck) : Map.of(), timeoutMillis, includeDetails, e);
 		}
 		catch (InterruptedException e) {
 			Thread.currentThread().interrupt();
-			return buildTimedOutResult(healthCheck.getName(), healthCheck.getMetadata(), timeoutMillis, includeDetails, e);
+			componentHealthResult = buildTimedOutResult(healthCheck.getName(), includeDetails ? getMetadata(healthCheck) : Map.of(), timeoutMillis, includeDetails, e);
+		}
+
+		finishCheck(pendingCheck, componentHealthResult);
+
+		return componentHealthResult;
+	}
+
+	/**
+	 * Stops the observation and commits the flight recorder event of a submitted health check, once: either when the
+	 * check completes, or when it is awaited and times out.
+	 */
+	private void finishCheck(PendingCheck pendingCheck, ComponentHealthResult componentHealthResult) {
+		if (!pendingCheck.finished().compareAndSet(false, true)) { return; }
+
+		final var timeoutMillis = pendingCheck.timeoutMillis();
+		final var observation = pendingCheck.observation();
+		final var event = pendingCheck.event();
+
+		if (!observation.isNoop()) {
+			observation.contextualName("dts health check " + componentHealthResult.getName())
+					.lowCardinalityKeyValue("dts.health.component", componentHealthResult.getName())
+					.lowCardinalityKeyValue("dts.health.status", componentHealthResult.getStatus().name())
+					.lowCardinalityKeyValue("dts.health.timedout", String.valueOf(componentHealthResult.getStatus() == ComponentHealthResult.Status.TIMEDOUT))
+					.highCardinalityKeyValue("dts.health.timeout.ms", String.valueOf(timeoutMillis));
+		}
+
+		observation.stop();
+
+		if (event != null) {
+			event.end();
+
+			if (event.shouldCommit()) {
+				event.name = componentHealthResult.getName();
+				event.status = componentHealthResult.getStatus().name();
+				event.timedOut = componentHealthResult.getStatus() == ComponentHealthResult.Status.TIMEDOUT;
+				event.timeout = timeoutMillis;
+
+				// a check that never left the queue waited for the whole time
+				if (event.queueWait == 0) { event.queueWait = System.nanoTime() - pendingCheck.submittedNanos(); }
+
+				event.commit();
+			}
+		}
+	}
+
+	/**
+	 * Runs a health check attempt and, if it has not completed after the hedge delay, a second attempt in parallel.
+	 * The returned future completes with the first healthy result, or with the last result if neither attempt is
+	 * healthy. A second attempt is only launched if the first one is still running, and is not launched at all once
+	 * the returned future has been cancelled or completed. Once the returned future is completed (or cancelled), the
+	 * attempt still running is cancelled and its thread interrupted, so that a slow dependency does not hold two
+	 * threads per hedged check.
+	 *
+	 * <p>The response time of the result is measured from the submission of the first attempt, so that the latency
+	 * recorded for a hedged component (and the hedge delay and adaptive timeout derived from it) is the latency the
+	 * caller observed, rather than the latency of whichever attempt won.</p>
+	 *
+	 * @param healthCheckName the name of the health check
+	 * @param attempt a single attempt at executing the health check
+	 * @param hedgeDelayMillis the delay after which the second attempt is launched in milliseconds
+	 * @param executor the executor on which the attempts run
+	 * @return a future completed with the winning result
+	 */
+	protected CompletableFuture<ComponentHealthResult> executeHedged(String healthCheckName, Supplier<ComponentHealthResult> attempt, long hedgeDelayMillis, Executor executor) {
+		final var submittedNanos = System.nanoTime();
+		final var result = new CompletableFuture<ComponentHealthResult>();
+		final var runningAttempts = new AtomicInteger(1);
+
+		final BiConsumer<ComponentHealthResult, Throwable> onAttemptComplete = (componentHealthResult, e) -> {
+			if (e == null && componentHealthResult.getStatus() == ComponentHealthResult.Status.HEALTHY) {
+				result.complete(withResponseTimeSince(componentHealthResult, submittedNanos));
+			}
+			else if (runningAttempts.decrementAndGet() == 0) {
+				if (e != null) { result.completeExceptionally(e); }
+				else { result.complete(withResponseTimeSince(componentHealthResult, submittedNanos)); }
+			}
+		};
+
+		final var firstAttempt = new HedgedAttempt(attempt, onAttemptComplete);
+		final var secondAttempt = new HedgedAttempt(attempt, onAttemptComplete);
+
+		result.whenComplete((componentHealthResult, e) -> {
+			firstAttempt.cancel(true);
+			secondAttempt.cancel(true);
+		});
+
+		executor.execute(firstAttempt);
+
+		CompletableFuture.delayedExecutor(hedgeDelayMillis, MILLISECONDS, executor).execute(() -> {
+			if (result.isDone()) { return; }
+
+			// only hedge while the first attempt is still running; once it has failed the result is already decided
+			if (runningAttempts.getAndUpdate(running -> running == 0 ? 0 : running + 1) == 0) { return; }
+
+			recordHedge(healthCheckName);
+			secondAttempt.run();
+		});
+
+		return result;
+	}
+
+	private static ComponentHealthResult withResponseTimeSince(ComponentHealthResult componentHealthResult, long submittedNanos) {
+		return ImmutableComponentHealthResult.copyOf(componentHealthResult)
+				.withResponseTimeMs(MILLISECONDS.convert(System.nanoTime() - submittedNanos, NANOSECONDS));
+	}
+
+	/**
+	 * Returns the executor on which a health check runs.
+	 *
+	 * @param healthCheck the health check
+	 * @return the priority executor for the health check, or the default {@link CompletableFuture} executor if no
+	 *         {@link HealthCheckExecutor} is set
+	 */
+	protected Executor executorFor(HealthCheck healthCheck) {
+		final var healthCheckExecutor = this.healthCheckExecutor;
+		if (healthCheckExecutor == null) { return DEFAULT_EXECUTOR; }
+
+		return healthCheckExecutor.forPriority(requireNonNullElse(healthCheck.getPriority(), HealthCheck.Priority.NORMAL));
+	}
+
+	/**
+	 * Counts a hedged attempt of a health check.
+	 *
+	 * @param healthCheckName the name of the health check
+	 */
+	protected void recordHedge(String healthCheckName) {
+		hedgeCount.increment();
+
+		final var meterRegistry = this.meterRegistry;
+
+		if (meterRegistry != null) {
+			Counter.builder(HEDGES_METER_NAME)
+					.description("The number of hedged health check attempts")
+					.tag("component", healthCheckName)
+					.register(meterRegistry)
+					.increment();
 		}
 	}
 
@@ -105,6 +959,22 @@ public class HealthCheckManager {
 	 * @return a {@link ComponentHealthResult} indicating an timed out status
 	 */
 	protected ComponentHealthResult buildTimedOutResult(String healthCheckName, Map<String, String> metadata, long timeoutMillis, boolean includeDetails, Exception e) {
+		return buildTimedOutResult(healthCheckName, metadata, timeoutMillis, includeDetails, e, null);
+	}
+
+	/**
+	 * Builds a health result indicating a timed out status for a health check, reporting the stack of the thread that
+	 * was executing the check (when available) instead of the stack of the exception.
+	 *
+	 * @param healthCheckName the name of the health check
+	 * @param metadata any additional metadata of the health check
+	 * @param timeoutMillis the timeout duration in milliseconds
+	 * @param includeDetails whether to include detailed health check results
+	 * @param e the exception that caused the timed out status
+	 * @param hungStackTrace the stack of the thread executing the check at the moment of timeout, or {@code null} if not available
+	 * @return a {@link ComponentHealthResult} indicating an timed out status
+	 */
+	protected ComponentHealthResult buildTimedOutResult(String healthCheckName, Map<String, String> metadata, long timeoutMillis, boolean includeDetails, Exception e, @Nullable StackTraceElement[] hungStackTrace) {
 		final var resultBuilder = ImmutableComponentHealthResult.builder()
 				.name(healthCheckName)
 				.status(ComponentHealthResult.Status.TIMEDOUT);
@@ -112,12 +982,63 @@ public class HealthCheckManager {
 		if (includeDetails) {
 			resultBuilder.metadata(metadata)
 					.errorDetails(format("Health check [%s] failed with timeout [%d ms]. Exception: [%s]", healthCheckName, timeoutMillis, e.toString()))
-					.stackTrace(Arrays.toString(e.getStackTrace()));
+					.stackTrace(Arrays.toString(hungStackTrace != null ? hungStackTrace : e.getStackTrace()));
 		}
 
 		return resultBuilder.build();
 	}
 
+	/**
+	 * Samples the stack of the thread executing a health check. This is only done when a check times out, since
+	 * sampling another thread's stack requires a safepoint.
+	 *
+	 * @param executingThread the thread executing the check, or an empty reference if the check has not started or has already finished
+	 * @return the sampled stack, or {@code null} if the check was not executing when sampled
+	 */
+	@Nullable
+	protected StackTraceElement[] sampleStackTrace(AtomicReference<Thread> executingThread) {
+		final var thread = executingThread.get();
+		if (thread == null) { return null; }
+
+		final var stackTrace = thread.getStackTrace();
+
+		// the check may have completed while sampling, in which case the thread is already doing something else
+		return executingThread.get() == thread ? stackTrace : null;
+	}
+
+	/**
+	 * Records the top frame of a hung health check's stack in the stuck locations histogram, if enabled.
+	 *
+	 * @param healthCheckName the name of the health check
+	 * @param hungStackTrace the sampled stack, or {@code null} if not available
+	 */
+	protected void recordStuckLocation(String healthCheckName, @Nullable StackTraceElement[] hungStackTrace) {
+		if (!recordStuckLocations || hungStackTrace == null || hungStackTrace.length == 0) { return; }
+
+		stuckLocations.computeIfAbsent(healthCheckName, name -> new ConcurrentHashMap<>())
+				.computeIfAbsent(hungStackTrace[0].toString(), location -> new LongAdder())
+				.increment();
+	}
+
+	/**
+	 * Returns a snapshot of the locations where timed-out health checks were found to be stuck, by component name and
+	 * then by top stack frame, with the number of times each location was sampled. Empty unless enabled with
+	 * {@link #setRecordStuckLocations(boolean)}.
+	 *
+	 * @return the stuck locations histogram
+	 */
+	public Map<String, Map<String, Long>> getStuckLocations() {
+		final var snapshot = new TreeMap<String, Map<String, Long>>();
+
+		stuckLocations.forEach((healthCheckName, locations) -> {
+			final var counts = new TreeMap<String, Long>();
+			locations.forEach((location, count) -> counts.put(location, count.sum()));
+			snapshot.put(healthCheckName, counts);
+		});
+
+		return snapshot;
+	}
+
 	/**
 	 * Executes a single health check and records its result.
 	 *
@@ -126,17 +1047,36 @@ public class HealthCheckManager {
 	 * @return the {@link ComponentHealthResult} of the executed health check
 	 */
 	protected ComponentHealthResult executeCheck(HealthCheck healthCheck, boolean includeDetails) {
+		return executeCheck(healthCheck, 0, includeDetails);
+	}
+
+	/**
+	 * Executes a single health check and records its result. The timeout is passed on to
+	 * {@link TimeoutAwareHealthCheck} implementations so they can bound their own I/O.
+	 *
+	 * @param healthCheck the {@link HealthCheck} to execute
+	 * @param timeoutMillis the timeout duration in milliseconds, or {@code 0} if the check is not bounded
+	 * @param includeDetails whether to include detailed health check results
+	 * @return the {@link ComponentHealthResult} of the executed health check
+	 */
+	protected ComponentHealthResult executeCheck(HealthCheck healthCheck, long timeoutMillis, boolean includeDetails) {
 		final var resultBuilder = ImmutableComponentHealthResult.builder()
 				.name(healthCheck.getName());
 
 		if (includeDetails) {
-			resultBuilder.metadata(healthCheck.getMetadata());
+			resultBuilder.metadata(getMetadata(healthCheck));
 		}
 
 		final var stopwatch = Stopwatch.createStarted();
 
 		try {
-			healthCheck.execute();
+			if (timeoutMillis > 0 && healthCheck instanceof TimeoutAwareHealthCheck timeoutAwareHealthCheck) {
+				timeoutAwareHealthCheck.execute(Duration.ofMillis(timeoutMillis));
+			}
+			else {
+				healthCheck.execute();
+			}
+
 			resultBuilder.status(ComponentHealthResult.Status.HEALTHY);
 		}
 		catch (Exception e) {
@@ -154,6 +1094,32 @@ public class HealthCheckManager {
 		return resultBuilder.build();
 	}
 
+	/**
+	 * Returns the metadata of a health check, from the cache if metadata caching is enabled.
+	 *
+	 * @param healthCheck the health check
+	 * @return the (immutable, if cached) metadata of the health check
+	 */
+	protected Map<String, String> getMetadata(HealthCheck healthCheck) {
+		if (!cacheMetadata) { return healthCheck.getMetadata(); }
+
+		final var nowNanos = System.nanoTime();
+		final var metadataRefreshInterval = this.metadataRefreshInterval;
+		final var cached = cachedMetadata.get(healthCheck.getName());
+
+		// a health check registered under the same name as a previous one has metadata of its own
+		final var isFresh = cached != null
+				&& cached.healthCheck().refersTo(healthCheck)
+				&& (metadataRefreshInterval == null || nowNanos - cached.resolvedNanos() < metadataRefreshInterval.toNanos());
+
+		if (isFresh) { return cached.metadata(); }
+
+		final var metadata = Collections.unmodifiableMap(new LinkedHashMap<>(requireNonNullElse(healthCheck.getMetadata(), Map.<String, String>of())));
+		cachedMetadata.put(healthCheck.getName(), new CachedMetadata(new WeakReference<>(healthCheck), metadata, nowNanos));
+
+		return metadata;
+	}
+
 	/**
 	 * Aggregates the statuses of multiple component health results into a single status.
 	 *
@@ -166,4 +1132,63 @@ public class HealthCheckManager {
 		return Status.HEALTHY;
 	}
 
+	/**
+	 * An attempt of a hedged health check, which reports its outcome unless it was cancelled, and which can be cancelled
+	 * (interrupting its thread) while it runs.
+	 */
+	private static class HedgedAttempt extends FutureTask<ComponentHealthResult> {
+
+		private final BiConsumer<ComponentHealthResult, Throwable> onAttemptComplete;
+
+		HedgedAttempt(Supplier<ComponentHealthResult> attempt, BiConsumer<ComponentHealthResult, Throwable> onAttemptComplete) {
+			super(attempt::get);
+			this.onAttemptComplete = onAttemptComplete;
+		}
+
+		@Override
+		protected void done() {
+			if (isCancelled()) { return; }
+
+			try {
+				onAttemptComplete.accept(get(), null);
+			}
+			catch (ExecutionException e) {
+				onAttemptComplete.accept(null, e.getCause());
+			}
+			catch (InterruptedException e) {
+				// not reachable: the attempt is done
+				Thread.currentThread().interrupt();
+			}
+		}
+
+	}
+
+	/**
+	 * The last known result of a component, kept for serving to requests that do not execute it.
+	 */
+	private record SampledResult(ComponentHealthResult componentHealthResult, long executedNanos) {}
+
+	/**
+	 * A component that may be chosen for execution, with when it was last scheduled as seen when choosing.
+	 */
+	private record SampleCandidate(HealthCheck healthCheck, @Nullable Long lastScheduledNanos) {}
+
+	/**
+	 * A health check that has been submitted, and whose result has yet to be awaited.
+	 */
+	private record PendingCheck(HealthCheck healthCheck, long timeoutMillis, long hedgeDelayMillis, boolean includeDetails, Observation observation,
+			@Nullable HealthCheckEvent event, AtomicReference<Thread> executingThread, long submittedNanos, CompletableFuture<ComponentHealthResult> future,
+			AtomicBoolean finished) {}
+
+	/**
+	 * A component that has been submitted, with the latency estimate to update once its result is known.
+	 */
+	private record PendingComponent(PendingCheck pendingCheck, @Nullable LatencyEstimator latencyEstimator, @Nullable AdaptiveTimeoutOptions adaptiveTimeoutOptions) {}
+
+	/**
+	 * The metadata of a health check, as obtained at a point in time. The health check is only weakly referenced, so
+	 * that a health check that is replaced without being unregistered is not kept alive by the cache.
+	 */
+	private record CachedMetadata(WeakReference<HealthCheck> healthCheck, Map<String, String> metadata, long resolvedNanos) {}
+
 }
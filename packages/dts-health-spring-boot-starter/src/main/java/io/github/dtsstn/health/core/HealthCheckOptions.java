@@ -2,6 +2,7 @@ package io.github.dtsstn.health.core;
 
 import java.util.Set;
 
+import org.immutables.value.Value.Default;
 import org.immutables.value.Value.Immutable;
 
 import jakarta.annotation.Nullable;
@@ -39,6 +40,17 @@ public interface HealthCheckOptions {
 	 */
 	boolean getIncludeDetails();
 
+	/**
+	 * Indicates whether every included component is executed, even if the {@link HealthCheckManager} only executes a
+	 * sample of them per request (see {@link HealthCheckManager#setMaxComponentsPerRequest(int)}).
+	 *
+	 * @return {@code true} if every included component is executed, {@code false} (the default) otherwise
+	 */
+	@Default
+	default boolean getExecuteAllComponents() {
+		return false;
+	}
+
 	/**
 	 * Returns the version of the application or service, if available.
 	 *
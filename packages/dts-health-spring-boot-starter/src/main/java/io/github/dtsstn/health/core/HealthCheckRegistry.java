@@ -0,0 +1,193 @@
+package io.github.dtsstn.health.core;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNullElse;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import com.google.common.collect.Iterators;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * A thread-safe registry of {@link HealthCheck}s, keyed by name, that can be modified while health check requests are
+ * in flight.
+ *
+ * <p>Reads never lock or copy: {@link #getHealthChecks()} returns a live, weakly consistent view of the registry, so a
+ * request that runs concurrently with a registration may or may not include the new health check, but never fails. The
+ * iteration order of the view is unspecified.</p>
+ *
+ * <p>Names are only required to be unique for health checks {@link #register registered} at runtime. The initial
+ * health checks (usually the application's {@code HealthCheck} beans) are accepted as before the registry existed:
+ * health checks sharing a name are all kept and executed, and a warning is logged.</p>
+ */
+public class HealthCheckRegistry {
+
+	static final Logger log = LoggerFactory.getLogger(HealthCheckRegistry.class);
+
+	private final Map<String, HealthCheck> healthChecks = new ConcurrentHashMap<>();
+
+	// initial health checks whose name was already taken; they are never looked up by name
+	private final List<HealthCheck> duplicateHealthChecks = new CopyOnWriteArrayList<>();
+
+	private final Collection<HealthCheck> healthChecksView = new AbstractCollection<>() {
+
+		@Override
+		public Iterator<HealthCheck> iterator() {
+			final var values = Collections.unmodifiableCollection(healthChecks.values()).iterator();
+			return duplicateHealthChecks.isEmpty() ? values : Iterators.unmodifiableIterator(Iterators.concat(values, duplicateHealthChecks.iterator()));
+		}
+
+		@Override
+		public int size() {
+			return HealthCheckRegistry.this.size();
+		}
+
+	};
+
+	private final List<Consumer<HealthCheck>> unregistrationListeners = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Creates a new, empty {@code HealthCheckRegistry}.
+	 */
+	public HealthCheckRegistry() {}
+
+	/**
+	 * Creates a new {@code HealthCheckRegistry} containing the given health checks. Health checks with the same name
+	 * as a previous one, or with an empty name, are kept with a warning.
+	 *
+	 * @param healthChecks the initial health checks
+	 */
+	public HealthCheckRegistry(Collection<? extends HealthCheck> healthChecks) {
+		Assert.notNull(healthChecks, "'healthChecks' must not be null");
+
+		for (final var healthCheck : healthChecks) {
+			Assert.notNull(healthCheck, "'healthChecks' must not contain null elements");
+
+			final var name = requireNonNullElse(healthCheck.getName(), "");
+			if (!StringUtils.hasText(name)) { log.warn("Health check [{}] has an empty name", healthCheck); }
+
+			if (this.healthChecks.putIfAbsent(name, healthCheck) != null) {
+				log.warn("A health check named [{}] is already registered; both are executed, but only the first can be looked up by name", name);
+				duplicateHealthChecks.add(healthCheck);
+			}
+		}
+	}
+
+	/**
+	 * Adds a listener notified, on the unregistering thread, of every health check unregistered with
+	 * {@link #unregister(String)}, so that state kept about it elsewhere can be discarded.
+	 *
+	 * @param unregistrationListener the listener
+	 * @see HealthCheckManager#forget(String)
+	 */
+	public void addUnregistrationListener(Consumer<HealthCheck> unregistrationListener) {
+		Assert.notNull(unregistrationListener, "'unregistrationListener' must not be null");
+		unregistrationListeners.add(unregistrationListener);
+	}
+
+	/**
+	 * Registers a health check.
+	 *
+	 * @param healthCheck the health check to register
+	 * @throws IllegalStateException if a health check with the same name is already registered
+	 */
+	public void register(HealthCheck healthCheck) {
+		Assert.notNull(healthCheck, "'healthCheck' must not be null");
+		Assert.hasText(healthCheck.getName(), "'healthCheck.name' must not be empty");
+
+		final var existingHealthCheck = healthChecks.putIfAbsent(healthCheck.getName(), healthCheck);
+		Assert.state(existingHealthCheck == null, () -> format("A health check named [%s] is already registered", healthCheck.getName()));
+	}
+
+	/**
+	 * Unregisters the health check with the given name, if any, and notifies the unregistration listeners.
+	 *
+	 * @param name the name of the health check
+	 * @return the unregistered health check, or {@code null} if none was registered with this name
+	 */
+	@Nullable
+	public HealthCheck unregister(String name) {
+		Assert.notNull(name, "'name' must not be null");
+
+		final var healthCheck = healthChecks.remove(name);
+		duplicateHealthChecks.removeIf(duplicateHealthCheck -> name.equals(duplicateHealthCheck.getName()));
+
+		if (healthCheck != null) {
+			unregistrationListeners.forEach(unregistrationListener -> unregistrationListener.accept(healthCheck));
+		}
+
+		return healthCheck;
+	}
+
+	/**
+	 * Returns the health check with the given name.
+	 *
+	 * @param name the name of the health check
+	 * @return the health check, or {@code null} if none is registered with this name
+	 */
+	@Nullable
+	public HealthCheck get(String name) {
+		Assert.notNull(name, "'name' must not be null");
+		return healthChecks.get(name);
+	}
+
+	/**
+	 * Returns a live, unmodifiable view of all registered health checks.
+	 *
+	 * @return the registered health checks
+	 */
+	public Collection<HealthCheck> getHealthChecks() {
+		return healthChecksView;
+	}
+
+	/**
+	 * Returns the registered health checks with the given names, or all registered health checks if no names are
+	 * given. Looking up named health checks costs the same regardless of the size of the registry.
+	 *
+	 * @param names the names of the health checks; if empty, all health checks are returned
+	 * @return the matching health checks
+	 */
+	public Collection<HealthCheck> getHealthChecks(Collection<String> names) {
+		Assert.notNull(names, "'names' must not be null");
+
+		if (names.isEmpty()) { return healthChecksView; }
+
+		final var namedHealthChecks = names.stream()
+				.distinct()
+				.map(healthChecks::get)
+				.filter(Objects::nonNull)
+				.toList();
+
+		if (duplicateHealthChecks.isEmpty()) { return namedHealthChecks; }
+
+		final var allNamedHealthChecks = new ArrayList<HealthCheck>(namedHealthChecks);
+		duplicateHealthChecks.stream().filter(healthCheck -> names.contains(healthCheck.getName())).forEach(allNamedHealthChecks::add);
+		return allNamedHealthChecks;
+	}
+
+	/**
+	 * Returns the number of registered health checks.
+	 *
+	 * @return the number of registered health checks
+	 */
+	public int size() {
+		return healthChecks.size() + duplicateHealthChecks.size();
+	}
+
+}
@@ -0,0 +1,30 @@
+package io.github.dtsstn.health.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JDK Flight Recorder event for a whole {@link HealthCheckManager#executeChecks} call.
+ */
+@Name("io.github.dtsstn.health.HealthChecks")
+@Label("Health Checks")
+@Category({ "DTS", "Health" })
+@Description("Execution and aggregation of a set of health checks")
+@StackTrace(false)
+final class HealthChecksEvent extends jdk.jfr.Event {
+
+	@Label("Status")
+	String status;
+
+	@Label("Components")
+	int components;
+
+	@Label("Timeout")
+	@Timespan(Timespan.MILLISECONDS)
+	long timeout;
+
+}
@@ -0,0 +1,299 @@
+package io.github.dtsstn.health.core;
+
+import static java.lang.String.format;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+import io.github.dtsstn.health.core.HealthResult.ComponentHealthResult;
+import jakarta.annotation.Nullable;
+
+/**
+ * An append-only journal of component status and latency samples in a memory-mapped file, so that the health history
+ * leading up to a crash (or an OOM kill) can be read after a restart.
+ *
+ * <p>The file holds a fixed number of fixed-size records in a ring: once it is full, each new sample overwrites the
+ * oldest one. Appending writes to the mapped memory only, without system calls or allocation; the operating system
+ * writes the pages back to the file, including after the process dies. Reopening an existing journal continues after
+ * its last record. An open journal holds an exclusive lock on its file, so that two processes never write to the same
+ * journal.</p>
+ *
+ * <p>Each record is committed by writing its sequence number last, so a record torn by a crash is skipped when the
+ * journal is read. Records are read without holding up appends: a record that is overwritten while it is being read
+ * no longer has the sequence number it had when reading started, and is skipped too.</p>
+ */
+public class HealthJournal implements AutoCloseable {
+
+	/**
+	 * The maximum number of (ASCII) characters of a component name stored in a record.
+	 */
+	public static final int MAX_NAME_LENGTH = 42;
+
+	static final int MAGIC = 0x44_54_53_4A; // "DTSJ"
+
+	static final int VERSION = 1;
+
+	// header: magic (int), version (int), capacity (int), record size (int), records written (long)
+	static final int HEADER_SIZE = 32;
+
+	static final int WRITTEN_OFFSET = 16;
+
+	// record: sequence + 1 (long, 0 when empty), epoch millis (long), response time ms (int), status (byte), name length (byte), name
+	static final int RECORD_SIZE = 64;
+
+	static final int NAME_OFFSET = 22;
+
+	private static final ComponentHealthResult.Status[] STATUSES = ComponentHealthResult.Status.values();
+
+	private final FileChannel channel;
+
+	private final MappedByteBuffer buffer;
+
+	private final int capacity;
+
+	private long written;
+
+	private HealthJournal(FileChannel channel, MappedByteBuffer buffer, int capacity, long written) {
+		this.channel = channel;
+		this.buffer = buffer;
+		this.capacity = capacity;
+		this.written = written;
+	}
+
+	/**
+	 * Opens a journal, creating the file if it does not exist. An existing file with a different capacity (or that is
+	 * not a journal) is replaced.
+	 *
+	 * @param path the path of the journal file
+	 * @param capacity the number of records kept
+	 * @return the opened journal
+	 * @throws IllegalStateException if the journal is already open, in this process or another one
+	 * @throws UncheckedIOException if the file cannot be opened or mapped
+	 */
+	public static HealthJournal open(Path path, int capacity) {
+		Assert.notNull(path, "'path' must not be null");
+		Assert.isTrue(capacity > 0, "'capacity' must be positive");
+		Assert.isTrue(capacity <= (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE, "'capacity' is too large");
+
+		final var size = HEADER_SIZE + (long) capacity * RECORD_SIZE;
+
+		try {
+			if (path.getParent() != null) { Files.createDirectories(path.getParent()); }
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(format("Could not create the directory of health journal [%s]", path), e);
+		}
+
+		FileChannel channel = null;
+
+		try {
+			channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+			// held until the journal is closed (released by closing the channel, or by the operating system when the process dies)
+			if (tryLock(channel) == null) { throw new IllegalStateException(format("Health journal [%s] is already in use", path)); }
+
+			final var isCompatible = channel.size() == size && isCompatible(channel.map(MapMode.READ_ONLY, 0, HEADER_SIZE), capacity);
+
+			if (!isCompatible) { channel.truncate(0); }
+
+			final var buffer = channel.map(MapMode.READ_WRITE, 0, size);
+
+			if (!isCompatible) {
+				buffer.putInt(0, MAGIC)
+						.putInt(4, VERSION)
+						.putInt(8, capacity)
+						.putInt(12, RECORD_SIZE)
+						.putLong(WRITTEN_OFFSET, 0);
+			}
+
+			return new HealthJournal(channel, buffer, capacity, buffer.getLong(WRITTEN_OFFSET));
+		}
+		catch (IOException e) {
+			closeQuietly(channel);
+			throw new UncheckedIOException(format("Could not open health journal [%s]", path), e);
+		}
+		catch (RuntimeException e) {
+			closeQuietly(channel);
+			throw e;
+		}
+	}
+
+	@Nullable
+	private static FileLock tryLock(FileChannel channel) throws IOException {
+		try {
+			return channel.tryLock();
+		}
+		catch (OverlappingFileLockException e) {
+			// already locked by a journal open in this process
+			return null;
+		}
+	}
+
+	private static void closeQuietly(@Nullable FileChannel channel) {
+		if (channel == null) { return; }
+
+		try {
+			channel.close();
+		}
+		catch (IOException e) {
+			// the original failure is reported instead
+		}
+	}
+
+	/**
+	 * Reads the entries of a journal file, oldest first, without modifying it.
+	 *
+	 * @param path the path of the journal file
+	 * @return the entries of the journal, or an empty list if the file is not a journal
+	 * @throws UncheckedIOException if the file cannot be read
+	 */
+	public static List<HealthJournalEntry> read(Path path) {
+		Assert.notNull(path, "'path' must not be null");
+
+		try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			if (channel.size() < HEADER_SIZE) { return List.of(); }
+
+			final var buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+			final var capacity = buffer.getInt(8);
+
+			if (!isCompatible(buffer, capacity) || channel.size() != HEADER_SIZE + (long) capacity * RECORD_SIZE) { return List.of(); }
+
+			return readEntries(buffer, capacity, buffer.getLong(WRITTEN_OFFSET));
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(format("Could not read health journal [%s]", path), e);
+		}
+	}
+
+	/**
+	 * Appends a sample to the journal, overwriting the oldest one if the journal is full.
+	 *
+	 * @param name the name of the component; non-ASCII characters are replaced with {@code ?}
+	 * @param status the status of the component
+	 * @param responseTimeMs the response time of the component in milliseconds
+	 * @param epochMillis when the component was executed
+	 */
+	public synchronized void append(String name, ComponentHealthResult.Status status, long responseTimeMs, long epochMillis) {
+		final var sequence = written;
+		final var position = HEADER_SIZE + (int) (sequence % capacity) * RECORD_SIZE;
+		final var nameLength = Math.min(name.length(), MAX_NAME_LENGTH);
+
+		// invalidate the slot first, so that a crash part-way through never leaves a record that looks committed
+		buffer.putLong(position, 0);
+		VarHandle.storeStoreFence();
+
+		buffer.putLong(position + 8, epochMillis)
+				.putInt(position + 16, (int) Math.min(responseTimeMs, Integer.MAX_VALUE))
+				.put(position + 20, (byte) status.ordinal())
+				.put(position + 21, (byte) nameLength);
+
+		for (int i = 0; i < nameLength; i++) {
+			final var c = name.charAt(i);
+			buffer.put(position + NAME_OFFSET + i, (byte) (c < 0x80 ? c : '?'));
+		}
+
+		VarHandle.storeStoreFence();
+		buffer.putLong(position, sequence + 1);
+		buffer.putLong(WRITTEN_OFFSET, written = sequence + 1);
+	}
+
+	/**
+	 * Returns the entries of this journal, oldest first, including those written before it was reopened.
+	 *
+	 * @return the entries of the journal
+	 */
+	public List<HealthJournalEntry> getEntries() {
+		final long written;
+
+		synchronized (this) {
+			written = this.written;
+		}
+
+		return readEntries(buffer, capacity, written);
+	}
+
+	/**
+	 * Returns the number of records that can be kept.
+	 *
+	 * @return the capacity of the journal
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	@Override
+	public synchronized void close() {
+		if (!channel.isOpen()) { return; }
+
+		buffer.force();
+
+		try {
+			channel.close();
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Could not close health journal", e);
+		}
+	}
+
+	private static List<HealthJournalEntry> readEntries(ByteBuffer buffer, int capacity, long written) {
+		if (written <= 0) { return List.of(); }
+
+		final var first = Math.max(0, written - capacity);
+		final var entries = new ArrayList<HealthJournalEntry>((int) (written - first));
+		final var nameBytes = new byte[MAX_NAME_LENGTH];
+
+		for (var sequence = first; sequence < written; sequence++) {
+			final var position = HEADER_SIZE + (int) (sequence % capacity) * RECORD_SIZE;
+
+			// skip records torn by a crash
+			if (buffer.getLong(position) != sequence + 1) { continue; }
+			VarHandle.loadLoadFence();
+
+			final var epochMillis = buffer.getLong(position + 8);
+			final var responseTimeMs = buffer.getInt(position + 16);
+			final var statusOrdinal = buffer.get(position + 20);
+			final var nameLength = Math.min(buffer.get(position + 21), MAX_NAME_LENGTH);
+			if (statusOrdinal < 0 || statusOrdinal >= STATUSES.length || nameLength < 0) { continue; }
+
+			buffer.get(position + NAME_OFFSET, nameBytes, 0, nameLength);
+
+			// skip records overwritten while they were being read
+			VarHandle.loadLoadFence();
+			if (buffer.getLong(position) != sequence + 1) { continue; }
+
+			entries.add(ImmutableHealthJournalEntry.builder()
+					.sequence(sequence)
+					.timestamp(Instant.ofEpochMilli(epochMillis))
+					.name(new String(nameBytes, 0, nameLength, StandardCharsets.US_ASCII))
+					.status(STATUSES[statusOrdinal])
+					.responseTimeMs(responseTimeMs)
+					.build());
+		}
+
+		return entries;
+	}
+
+	private static boolean isCompatible(ByteBuffer header, int capacity) {
+		return header.getInt(0) == MAGIC
+				&& header.getInt(4) == VERSION
+				&& header.getInt(8) == capacity
+				&& header.getInt(12) == RECORD_SIZE;
+	}
+
+}
@@ -0,0 +1,50 @@
+package io.github.dtsstn.health.core;
+
+import java.time.Instant;
+
+import org.immutables.value.Value.Immutable;
+
+import io.github.dtsstn.health.core.HealthResult.ComponentHealthResult;
+
+/**
+ * A component status and latency sample read back from a {@link HealthJournal}.
+ */
+@Immutable
+public interface HealthJournalEntry {
+
+	/**
+	 * Returns the position of this entry in the journal, counting from the first entry ever written.
+	 *
+	 * @return the sequence number
+	 */
+	long getSequence();
+
+	/**
+	 * Returns when the component was executed.
+	 *
+	 * @return the timestamp
+	 */
+	Instant getTimestamp();
+
+	/**
+	 * Returns the name of the component, truncated to {@value HealthJournal#MAX_NAME_LENGTH} characters.
+	 *
+	 * @return the component name
+	 */
+	String getName();
+
+	/**
+	 * Returns the status of the component.
+	 *
+	 * @return the status
+	 */
+	ComponentHealthResult.Status getStatus();
+
+	/**
+	 * Returns the response time of the component, in milliseconds.
+	 *
+	 * @return the response time
+	 */
+	long getResponseTimeMs();
+
+}
@@ -0,0 +1,32 @@
+package io.github.dtsstn.health.core;
+
+import java.nio.file.Path;
+
+/**
+ * A command-line tool that prints the entries of a {@link HealthJournal} file, for inspecting the health history of a
+ * crashed process.
+ *
+ * <pre>
+ * java -cp dts-health-spring-boot-starter.jar:... io.github.dtsstn.health.core.HealthJournalReader &lt;journal file&gt;
+ * </pre>
+ */
+public final class HealthJournalReader {
+
+	private HealthJournalReader() {}
+
+	/**
+	 * Prints the entries of a journal file, oldest first.
+	 *
+	 * @param args the path of the journal file
+	 */
+	public static void main(String[] args) {
+		if (args.length != 1) {
+			System.err.println("Usage: java " + HealthJournalReader.class.getName() + " <journal file>");
+			System.exit(1);
+		}
+
+		HealthJournal.read(Path.of(args[0])).forEach(entry -> System.out.printf("%s %-42s %-9s %6d ms%n",
+				entry.getTimestamp(), entry.getName(), entry.getStatus(), entry.getResponseTimeMs()));
+	}
+
+}
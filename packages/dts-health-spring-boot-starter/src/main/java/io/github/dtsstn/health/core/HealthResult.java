@@ -5,6 +5,8 @@ import java.util.Set;
 
 import org.immutables.value.Value.Immutable;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import jakarta.annotation.Nullable;
@@ -21,6 +23,11 @@ public interface HealthResult {
 	 */
 	String CONTENT_TYPE = "application/health+json";
 
+	/**
+	 * The MIME type for compact binary (CBOR) responses.
+	 */
+	String CBOR_CONTENT_TYPE = "application/health+cbor";
+
 	/**
 	 * The possible statuses for a system health check result.
 	 */
@@ -81,6 +88,7 @@ public interface HealthResult {
 	 * Represents the health check result for an individual component.
 	 */
 	@Immutable
+	@JsonDeserialize(as = ImmutableComponentHealthResult.class)
 	interface ComponentHealthResult {
 
 		/**
@@ -139,6 +147,16 @@ public interface HealthResult {
 		@Nullable
 		String getStackTrace();
 
+		/**
+		 * Returns how long ago this result was obtained, in milliseconds, when it is a previously obtained result served
+		 * instead of executing the health check again.
+		 *
+		 * @return the age of the result, or {@code null} if the health check was executed for this request
+		 */
+		@Nullable
+		@JsonInclude(Include.NON_NULL)
+		Long getAgeMs();
+
 	}
 
 }
@@ -0,0 +1,104 @@
+package io.github.dtsstn.health.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+/**
+ * Encodes and decodes {@link HealthResult} instances using the compact CBOR binary format.
+ *
+ * <p>Instances are thread-safe and intended to be shared. Aggregator clients can use the {@code decode} methods to read
+ * responses served with the {@link HealthResult#CBOR_CONTENT_TYPE} content type directly from the received buffer.</p>
+ */
+public class HealthResultCodec {
+
+	private final ObjectReader objectReader;
+
+	private final ObjectWriter objectWriter;
+
+	/**
+	 * Creates a new {@code HealthResultCodec}.
+	 */
+	public HealthResultCodec() {
+		final var cborMapper = CBORMapper.builder()
+				.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+				// results are read through their generated JSON delegate, not through the Guava collections they hold
+				.disable(MapperFeature.ALLOW_FINAL_FIELDS_AS_MUTATORS, MapperFeature.USE_GETTERS_AS_SETTERS)
+				.serializationInclusion(Include.NON_NULL)
+				.build();
+
+		this.objectReader = cborMapper.readerFor(ImmutableHealthResult.class);
+		this.objectWriter = cborMapper.writer();
+	}
+
+	/**
+	 * Encodes a health result as CBOR.
+	 *
+	 * @param healthResult the {@link HealthResult} to encode
+	 * @return the CBOR-encoded health result
+	 */
+	public byte[] encode(HealthResult healthResult) {
+		try {
+			return objectWriter.writeValueAsBytes(healthResult);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Decodes a CBOR-encoded health result.
+	 *
+	 * @param bytes the CBOR-encoded health result
+	 * @return the decoded {@link HealthResult}
+	 */
+	public HealthResult decode(byte[] bytes) {
+		return decode(bytes, 0, bytes.length);
+	}
+
+	/**
+	 * Decodes a CBOR-encoded health result from a region of a byte array, without copying it.
+	 *
+	 * @param bytes the buffer containing the CBOR-encoded health result
+	 * @param offset the offset of the first byte of the health result
+	 * @param length the number of bytes of the health result
+	 * @return the decoded {@link HealthResult}
+	 */
+	public HealthResult decode(byte[] bytes, int offset, int length) {
+		try {
+			return objectReader.readValue(bytes, offset, length);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Decodes a CBOR-encoded health result from the remaining bytes of a buffer. Heap buffers are read in place; direct
+	 * buffers are streamed without an intermediate copy.
+	 *
+	 * @param buffer the buffer containing the CBOR-encoded health result
+	 * @return the decoded {@link HealthResult}
+	 */
+	public HealthResult decode(ByteBuffer buffer) {
+		if (buffer.hasArray()) {
+			return decode(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+		}
+
+		try {
+			return objectReader.readValue(new ByteBufferBackedInputStream(buffer.duplicate()));
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+}
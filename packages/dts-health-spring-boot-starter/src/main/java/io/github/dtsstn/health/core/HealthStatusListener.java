@@ -0,0 +1,34 @@
+package io.github.dtsstn.health.core;
+
+import io.github.dtsstn.health.core.HealthResult.ComponentHealthResult;
+import io.github.dtsstn.health.core.HealthResult.Status;
+import jakarta.annotation.Nullable;
+
+/**
+ * Receives notifications from a {@link HealthCheckManager} when the status of a component, or the aggregate status,
+ * changes.
+ *
+ * <p>Listeners are only notified of transitions, never of repeated statuses, and are called asynchronously, in the
+ * order in which the transitions were observed. The first status observed for a component (or in aggregate) is
+ * reported as a transition from {@code null}.</p>
+ */
+public interface HealthStatusListener {
+
+	/**
+	 * Called when the status of a component changes.
+	 *
+	 * @param previousStatus the previous status of the component, or {@code null} if it had not been executed before
+	 * @param componentHealthResult the result that reported the new status
+	 */
+	default void onComponentStatusChanged(@Nullable ComponentHealthResult.Status previousStatus, ComponentHealthResult componentHealthResult) {}
+
+	/**
+	 * Called when the aggregate status of all components changes. Requests that include or exclude components do not
+	 * affect the aggregate status.
+	 *
+	 * @param previousStatus the previous aggregate status, or {@code null} if no request had been executed before
+	 * @param healthResult the result that reported the new status
+	 */
+	default void onStatusChanged(@Nullable Status previousStatus, HealthResult healthResult) {}
+
+}
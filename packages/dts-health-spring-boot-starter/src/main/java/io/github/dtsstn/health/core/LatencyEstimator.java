@@ -0,0 +1,35 @@
+package io.github.dtsstn.health.core;
+
+/**
+ * Streaming estimate of the latency distribution of a single health check component, tracking the p95 and p99
+ * latencies in constant memory. Instances are thread-safe.
+ */
+final class LatencyEstimator {
+
+	private final P2QuantileEstimator p95 = new P2QuantileEstimator(0.95);
+
+	private final P2QuantileEstimator p99 = new P2QuantileEstimator(0.99);
+
+	/**
+	 * Records an observed latency.
+	 *
+	 * @param latencyMillis the latency in milliseconds
+	 */
+	synchronized void record(long latencyMillis) {
+		p95.add(latencyMillis);
+		p99.add(latencyMillis);
+	}
+
+	synchronized long getCount() {
+		return p99.getCount();
+	}
+
+	synchronized double getP95() {
+		return p95.getQuantile();
+	}
+
+	synchronized double getP99() {
+		return p99.getQuantile();
+	}
+
+}
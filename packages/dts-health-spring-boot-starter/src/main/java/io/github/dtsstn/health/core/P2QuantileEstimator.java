@@ -0,0 +1,130 @@
+package io.github.dtsstn.health.core;
+
+import java.util.Arrays;
+
+/**
+ * Streaming estimator of a single quantile using the P² algorithm (Jain and Chlamtac, 1985).
+ *
+ * <p>The estimator keeps five markers whose heights approximate the minimum, the p/2, p and (1+p)/2 quantiles, and the
+ * maximum of the observations so far, so it uses constant memory and does not allocate when observations are added.
+ * Instances are not thread-safe.</p>
+ */
+final class P2QuantileEstimator {
+
+	private final double p;
+
+	/** Marker heights. */
+	private final double[] heights = new double[5];
+
+	/** Actual (0-based) marker positions. */
+	private final int[] positions = new int[5];
+
+	/** Desired marker positions. */
+	private final double[] desiredPositions = new double[5];
+
+	/** Increments of the desired marker positions. */
+	private final double[] increments;
+
+	private long count;
+
+	P2QuantileEstimator(double p) {
+		this.p = p;
+		this.increments = new double[] { 0, p / 2, p, (1 + p) / 2, 1 };
+	}
+
+	/**
+	 * Adds an observation.
+	 *
+	 * @param x the observed value
+	 */
+	void add(double x) {
+		if (count < 5) {
+			heights[(int) count++] = x;
+
+			if (count == 5) {
+				Arrays.sort(heights);
+
+				for (int i = 0; i < 5; i++) { positions[i] = i; }
+
+				desiredPositions[0] = 0;
+				desiredPositions[1] = 2 * p;
+				desiredPositions[2] = 4 * p;
+				desiredPositions[3] = 2 + 2 * p;
+				desiredPositions[4] = 4;
+			}
+
+			return;
+		}
+
+		count++;
+
+		final int k;
+
+		if (x < heights[0]) {
+			heights[0] = x;
+			k = 0;
+		}
+		else if (x < heights[1]) { k = 0; }
+		else if (x < heights[2]) { k = 1; }
+		else if (x < heights[3]) { k = 2; }
+		else if (x <= heights[4]) { k = 3; }
+		else {
+			heights[4] = x;
+			k = 3;
+		}
+
+		for (int i = k + 1; i < 5; i++) { positions[i]++; }
+		for (int i = 0; i < 5; i++) { desiredPositions[i] += increments[i]; }
+
+		for (int i = 1; i <= 3; i++) {
+			final var d = desiredPositions[i] - positions[i];
+
+			if ((d >= 1 && positions[i + 1] - positions[i] > 1) || (d <= -1 && positions[i - 1] - positions[i] < -1)) {
+				final int sign = d >= 0 ? 1 : -1;
+				final var parabolic = parabolic(i, sign);
+
+				heights[i] = (heights[i - 1] < parabolic && parabolic < heights[i + 1]) ? parabolic : linear(i, sign);
+				positions[i] += sign;
+			}
+		}
+	}
+
+	/**
+	 * Returns the current estimate of the quantile.
+	 *
+	 * @return the estimate, or {@link Double#NaN} if there are no observations
+	 */
+	double getQuantile() {
+		if (count == 0) { return Double.NaN; }
+
+		if (count < 5) {
+			final var sorted = Arrays.copyOf(heights, (int) count);
+			Arrays.sort(sorted);
+			return sorted[(int) Math.min(count - 1, Math.max(0, (long) Math.ceil(p * count) - 1))];
+		}
+
+		return heights[2];
+	}
+
+	/**
+	 * Returns the number of observations.
+	 *
+	 * @return the number of observations
+	 */
+	long getCount() {
+		return count;
+	}
+
+	private double parabolic(int i, int d) {
+		final double n = positions[i], nPrev = positions[i - 1], nNext = positions[i + 1];
+
+		return heights[i] + d / (nNext - nPrev) * (
+				(n - nPrev + d) * (heights[i + 1] - heights[i]) / (nNext - n)
+				+ (nNext - n - d) * (heights[i] - heights[i - 1]) / (n - nPrev));
+	}
+
+	private double linear(int i, int d) {
+		return heights[i] + d * (heights[i + d] - heights[i]) / (positions[i + d] - positions[i]);
+	}
+
+}
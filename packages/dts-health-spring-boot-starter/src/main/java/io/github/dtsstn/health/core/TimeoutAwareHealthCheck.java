@@ -0,0 +1,22 @@
+package io.github.dtsstn.health.core;
+
+import java.time.Duration;
+
+/**
+ * A {@link HealthCheck} that can bound its own execution time.
+ *
+ * <p>The {@link HealthCheckManager} stops waiting for a health check once its timeout expires, but the check itself
+ * keeps running (and holding a connection or socket) until it returns. Implementations of this interface receive the
+ * timeout of the current request and apply it to the I/O they perform, so that they return on their own.</p>
+ */
+public interface TimeoutAwareHealthCheck extends HealthCheck {
+
+	/**
+	 * Executes the health check, giving up once the timeout has elapsed. It may throw exceptions if the health check
+	 * fails or times out.
+	 *
+	 * @param timeout the maximum time the health check may take
+	 */
+	void execute(Duration timeout);
+
+}
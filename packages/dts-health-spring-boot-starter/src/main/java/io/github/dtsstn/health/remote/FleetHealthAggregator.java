@@ -0,0 +1,296 @@
+package io.github.dtsstn.health.remote;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import org.springframework.util.Assert;
+
+import com.google.common.base.Stopwatch;
+
+import io.github.dtsstn.health.core.HealthCheckOptions;
+import io.github.dtsstn.health.core.HealthResult;
+import io.github.dtsstn.health.core.HealthResult.ComponentHealthResult;
+import io.github.dtsstn.health.core.HealthResult.Status;
+import io.github.dtsstn.health.core.ImmutableComponentHealthResult;
+import io.github.dtsstn.health.core.ImmutableHealthResult;
+
+/**
+ * Polls many remote DTS health endpoints concurrently and rolls their results up into a single {@link HealthResult}.
+ *
+ * <p>Requests are sent with the non-blocking {@link java.net.http.HttpClient} API, so no thread is held while a target
+ * is in flight. At most {@code maxConcurrency} requests are outstanding at any time; as each one completes, the next
+ * target is dispatched from the completing thread. All targets share the overall deadline given by
+ * {@link HealthCheckOptions#getTimeoutMillis()}, and targets that have not answered by then are reported as
+ * {@link ComponentHealthResult.Status#TIMEDOUT}.</p>
+ *
+ * <p>Each target becomes one component of the aggregated result. When details are included, the target's own
+ * components are rolled up into its metadata as {@code components.<name>} status entries.</p>
+ */
+public class FleetHealthAggregator {
+
+	private final int maxConcurrency;
+
+	/**
+	 * Creates a new {@code FleetHealthAggregator}.
+	 *
+	 * @param maxConcurrency the maximum number of requests in flight at any time
+	 */
+	public FleetHealthAggregator(int maxConcurrency) {
+		Assert.isTrue(maxConcurrency > 0, "'maxConcurrency' must be greater than zero");
+		this.maxConcurrency = maxConcurrency;
+	}
+
+	/**
+	 * Polls a collection of remote health endpoints and aggregates their results.
+	 *
+	 * @param targets the remote health checks to poll
+	 * @param healthCheckOptions options for the aggregation, including the overall deadline and filtering options
+	 * @return the aggregated {@link HealthResult}, with one component per target
+	 */
+	public HealthResult aggregate(List<RemoteHealthCheck> targets, HealthCheckOptions healthCheckOptions) {
+		final var stopwatch = Stopwatch.createStarted();
+		final var deadlineNanos = System.nanoTime() + MILLISECONDS.toNanos(healthCheckOptions.getTimeoutMillis());
+		final var includeDetails = healthCheckOptions.getIncludeDetails();
+
+		final var includedTargets = targets.stream()
+				.filter(target -> isTargetIncluded(target, healthCheckOptions))
+				.toList();
+
+		final List<CompletableFuture<ComponentHealthResult>> futures = new ArrayList<>(includedTargets.size());
+		includedTargets.forEach(target -> futures.add(new CompletableFuture<>()));
+
+		final var nextIndex = new AtomicInteger();
+		for (int i = 0; i < Math.min(maxConcurrency, includedTargets.size()); i++) {
+			dispatchNext(includedTargets, futures, nextIndex, deadlineNanos, includeDetails);
+		}
+
+		awaitAll(futures, deadlineNanos);
+
+		final var componentHealthResults = new ArrayList<ComponentHealthResult>(includedTargets.size());
+		for (int i = 0; i < includedTargets.size(); i++) {
+			final var future = futures.get(i);
+			final var target = includedTargets.get(i);
+
+			if (!future.isDone()) {
+				componentHealthResults.add(buildTimedOutResult(target, healthCheckOptions.getTimeoutMillis(), includeDetails));
+			}
+			else if (future.isCompletedExceptionally()) {
+				componentHealthResults.add(buildFailedResult(target, future.exceptionNow(), includeDetails));
+			}
+			else {
+				componentHealthResults.add(future.join());
+			}
+		}
+
+		final var isHealthy = componentHealthResults.stream()
+				.allMatch(componentHealthResult -> componentHealthResult.getStatus() == ComponentHealthResult.Status.HEALTHY);
+
+		return ImmutableHealthResult.builder()
+				.status(isHealthy ? Status.HEALTHY : Status.UNHEALTHY)
+				.responseTimeMs(stopwatch.elapsed(MILLISECONDS))
+				.version(healthCheckOptions.getVersion())
+				.buildId(healthCheckOptions.getBuildId())
+				.components(componentHealthResults)
+				.build();
+	}
+
+	/**
+	 * Dispatches the next undispatched target, if any, and arranges for the following one to be dispatched when it
+	 * completes. Targets are not dispatched once the deadline has passed. Requests that have already completed when
+	 * they are dispatched (such as requests that could not be built) are handled in a loop rather than by recursing,
+	 * so that a large fleet of failing targets cannot overflow the stack.
+	 *
+	 * @param targets the targets to poll
+	 * @param futures the future of each target, in the same order as the targets
+	 * @param nextIndex the index of the next target to dispatch, shared by all dispatch chains
+	 * @param deadlineNanos the {@link System#nanoTime()} after which no target is dispatched
+	 * @param includeDetails whether to include detailed results
+	 */
+	void dispatchNext(List<RemoteHealthCheck> targets, List<CompletableFuture<ComponentHealthResult>> futures, AtomicInteger nextIndex, long deadlineNanos, boolean includeDetails) {
+		while (true) {
+			final var remainingNanos = deadlineNanos - System.nanoTime();
+			if (remainingNanos <= 0) { return; }
+
+			final var index = nextIndex.getAndIncrement();
+			if (index >= targets.size()) { return; }
+
+			final var target = targets.get(index);
+			final var stopwatch = Stopwatch.createStarted();
+
+			CompletableFuture<HealthResult> request;
+
+			try {
+				request = target.executeAsync(Duration.ofNanos(remainingNanos));
+			}
+			catch (RuntimeException e) {
+				request = CompletableFuture.failedFuture(e);
+			}
+
+			final BiConsumer<HealthResult, Throwable> completeTarget = (healthResult, e) -> completeTarget(futures.get(index), target, healthResult, e, stopwatch, includeDetails);
+
+			if (request.isDone()) {
+				request.whenComplete(completeTarget);
+				continue;
+			}
+
+			request.whenComplete(completeTarget.andThen((healthResult, e) -> dispatchNext(targets, futures, nextIndex, deadlineNanos, includeDetails)));
+			return;
+		}
+	}
+
+	/**
+	 * Completes the future of a target with its result, or exceptionally if the result could not be built, so that a
+	 * target is never left incomplete (and its concurrency slot is never lost).
+	 *
+	 * @param future the future of the target
+	 * @param target the polled target
+	 * @param healthResult the remote health result, or {@code null} if the request failed
+	 * @param throwable the failure, or {@code null} if the request succeeded
+	 * @param stopwatch the stopwatch started when the request was dispatched
+	 * @param includeDetails whether to include detailed results
+	 */
+	void completeTarget(CompletableFuture<ComponentHealthResult> future, RemoteHealthCheck target, HealthResult healthResult, Throwable throwable, Stopwatch stopwatch, boolean includeDetails) {
+		try {
+			future.complete(buildResult(target, healthResult, throwable, stopwatch, includeDetails));
+		}
+		catch (RuntimeException e) {
+			future.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * Waits until every target has completed or the deadline has passed, whichever comes first.
+	 *
+	 * @param futures the future of each target
+	 * @param deadlineNanos the {@link System#nanoTime()} after which to stop waiting
+	 */
+	void awaitAll(List<CompletableFuture<ComponentHealthResult>> futures, long deadlineNanos) {
+		try {
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+					.get(Math.max(0, deadlineNanos - System.nanoTime()), NANOSECONDS);
+		}
+		catch (ExecutionException | TimeoutException e) {
+			// unfinished targets are reported as timed out by the caller
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Determines if a target should be polled based on the inclusion and exclusion lists of the options.
+	 *
+	 * @param target the target
+	 * @param healthCheckOptions the options holding the inclusion and exclusion lists
+	 * @return {@code true} if the target is included and not excluded, {@code false} otherwise
+	 */
+	boolean isTargetIncluded(RemoteHealthCheck target, HealthCheckOptions healthCheckOptions) {
+		final var name = target.getName();
+		final var isIncluded = healthCheckOptions.getIncludeComponents().isEmpty() || healthCheckOptions.getIncludeComponents().contains(name);
+		final var isExcluded = healthCheckOptions.getExcludeComponents().contains(name);
+		return isIncluded && !isExcluded;
+	}
+
+	/**
+	 * Builds the component result for a target from the outcome of its request.
+	 *
+	 * @param target the polled target
+	 * @param healthResult the remote health result, or {@code null} if the request failed
+	 * @param throwable the failure, or {@code null} if the request succeeded
+	 * @param stopwatch the stopwatch started when the request was dispatched
+	 * @param includeDetails whether to include detailed results
+	 * @return the {@link ComponentHealthResult} of the target
+	 */
+	protected ComponentHealthResult buildResult(RemoteHealthCheck target, HealthResult healthResult, Throwable throwable, Stopwatch stopwatch, boolean includeDetails) {
+		final var resultBuilder = ImmutableComponentHealthResult.builder()
+				.name(target.getName())
+				.responseTimeMs(stopwatch.elapsed(MILLISECONDS));
+
+		if (throwable != null) {
+			final var cause = (throwable instanceof CompletionException && throwable.getCause() != null) ? throwable.getCause() : throwable;
+			resultBuilder.status(cause instanceof HttpTimeoutException ? ComponentHealthResult.Status.TIMEDOUT : ComponentHealthResult.Status.UNHEALTHY);
+
+			if (includeDetails) {
+				resultBuilder.metadata(target.getMetadata())
+						.errorDetails(cause.toString())
+						.stackTrace(Arrays.toString(cause.getStackTrace()));
+			}
+
+			return resultBuilder.build();
+		}
+
+		resultBuilder.status(healthResult.getStatus() == Status.HEALTHY ? ComponentHealthResult.Status.HEALTHY : ComponentHealthResult.Status.UNHEALTHY);
+
+		if (includeDetails) {
+			final var metadata = new LinkedHashMap<>(target.getMetadata());
+
+			if (healthResult.getVersion() != null) { metadata.put("version", healthResult.getVersion()); }
+			if (healthResult.getBuildId() != null) { metadata.put("buildId", healthResult.getBuildId()); }
+
+			if (healthResult.getComponents() != null) {
+				healthResult.getComponents().forEach(component -> metadata.put("components." + component.getName(), component.getStatus().name()));
+			}
+
+			resultBuilder.metadata(metadata);
+		}
+
+		return resultBuilder.build();
+	}
+
+	/**
+	 * Builds the component result for a target whose result could not be built.
+	 *
+	 * @param target the polled target
+	 * @param throwable the failure to build the result
+	 * @param includeDetails whether to include detailed results
+	 * @return the {@link ComponentHealthResult} of the target
+	 */
+	ComponentHealthResult buildFailedResult(RemoteHealthCheck target, Throwable throwable, boolean includeDetails) {
+		final var resultBuilder = ImmutableComponentHealthResult.builder()
+				.name(target.getName())
+				.status(ComponentHealthResult.Status.UNHEALTHY);
+
+		if (includeDetails) {
+			resultBuilder.errorDetails(throwable.toString())
+					.stackTrace(Arrays.toString(throwable.getStackTrace()));
+		}
+
+		return resultBuilder.build();
+	}
+
+	/**
+	 * Builds the component result for a target that did not answer before the deadline.
+	 *
+	 * @param target the polled target
+	 * @param timeoutMillis the timeout of the request in milliseconds
+	 * @param includeDetails whether to include detailed results
+	 * @return the {@link ComponentHealthResult} of the target
+	 */
+	ComponentHealthResult buildTimedOutResult(RemoteHealthCheck target, long timeoutMillis, boolean includeDetails) {
+		final var resultBuilder = ImmutableComponentHealthResult.builder()
+				.name(target.getName())
+				.status(ComponentHealthResult.Status.TIMEDOUT);
+
+		if (includeDetails) {
+			resultBuilder.metadata(target.getMetadata())
+					.errorDetails(format("Remote health check [%s] did not complete within [%d ms]", target.getName(), timeoutMillis));
+		}
+
+		return resultBuilder.build();
+	}
+
+}
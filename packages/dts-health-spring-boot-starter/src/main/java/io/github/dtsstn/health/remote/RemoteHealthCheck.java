@@ -0,0 +1,163 @@
+package io.github.dtsstn.health.remote;
+
+import static java.lang.String.format;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import io.github.dtsstn.health.core.HealthCheck;
+import io.github.dtsstn.health.core.HealthResult;
+import io.github.dtsstn.health.core.HealthResult.Status;
+import io.github.dtsstn.health.core.HealthResultCodec;
+import io.github.dtsstn.health.core.ImmutableHealthResult;
+import io.github.dtsstn.health.core.TimeoutAwareHealthCheck;
+
+/**
+ * A {@link HealthCheck} for a remote DTS health endpoint, such as another service's {@code /actuator/dtshealth}.
+ *
+ * <p>Requests prefer the compact CBOR encoding and fall back to JSON for endpoints that do not support it. The
+ * {@link HttpClient} is expected to be shared between checks so that connections are reused.</p>
+ */
+public class RemoteHealthCheck implements TimeoutAwareHealthCheck {
+
+	static final String ACCEPT = format("%s, %s;q=0.9", HealthResult.CBOR_CONTENT_TYPE, HealthResult.CONTENT_TYPE);
+
+	static final ObjectReader jsonReader = JsonMapper.builder()
+			.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+			// results are read through their generated JSON delegate, not through the Guava collections they hold
+			.disable(MapperFeature.ALLOW_FINAL_FIELDS_AS_MUTATORS, MapperFeature.USE_GETTERS_AS_SETTERS)
+			.build()
+			.readerFor(ImmutableHealthResult.class);
+
+	private final String name;
+
+	private final URI uri;
+
+	private final Duration timeout;
+
+	private final HttpClient httpClient;
+
+	private final HealthResultCodec healthResultCodec;
+
+	/**
+	 * Creates a new {@code RemoteHealthCheck}.
+	 *
+	 * @param name the name of the remote component
+	 * @param uri the URI of the remote health endpoint
+	 * @param timeout the request timeout used by {@link #execute()}
+	 * @param httpClient the (shared) HTTP client used to send requests
+	 * @param healthResultCodec the codec used to decode binary health results
+	 */
+	public RemoteHealthCheck(String name, URI uri, Duration timeout, HttpClient httpClient, HealthResultCodec healthResultCodec) {
+		Assert.hasText(name, "'name' must not be empty");
+		Assert.notNull(uri, "'uri' must not be null");
+		Assert.notNull(timeout, "'timeout' must not be null");
+		Assert.notNull(httpClient, "'httpClient' must not be null");
+		Assert.notNull(healthResultCodec, "'healthResultCodec' must not be null");
+
+		this.name = name;
+		this.uri = uri;
+		this.timeout = timeout;
+		this.httpClient = httpClient;
+		this.healthResultCodec = healthResultCodec;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public void execute() {
+		execute(timeout);
+	}
+
+	/**
+	 * Executes the remote health check, throwing if the remote endpoint cannot be reached or reports itself unhealthy.
+	 *
+	 * @param timeout the time remaining for the check; the request timeout is the lesser of it and the configured one
+	 */
+	@Override
+	public void execute(Duration timeout) {
+		final HealthResult healthResult;
+
+		try {
+			healthResult = executeAsync(timeout.compareTo(this.timeout) < 0 ? timeout : this.timeout).join();
+		}
+		catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) { throw cause; }
+			throw new IllegalStateException(format("Remote health check [%s] failed", name), e.getCause());
+		}
+
+		if (healthResult.getStatus() != Status.HEALTHY) {
+			throw new IllegalStateException(format("Remote health check [%s] reported status [%s]", name, healthResult.getStatus()));
+		}
+	}
+
+	/**
+	 * Sends a non-blocking request to the remote health endpoint.
+	 *
+	 * @param timeout the request timeout
+	 * @return a future completed with the remote {@link HealthResult}, or exceptionally if the request or decoding failed
+	 */
+	public CompletableFuture<HealthResult> executeAsync(Duration timeout) {
+		final var request = HttpRequest.newBuilder(uri)
+				.timeout(timeout)
+				.header("Accept", ACCEPT)
+				.GET()
+				.build();
+
+		return httpClient.sendAsync(request, BodyHandlers.ofByteArray())
+				.thenApply(this::toHealthResult);
+	}
+
+	@Override
+	public Map<String, String> getMetadata() {
+		return Map.of("url", uri.toString());
+	}
+
+	/**
+	 * Decodes a response from the remote health endpoint.
+	 *
+	 * @param response the HTTP response
+	 * @return the decoded {@link HealthResult}
+	 */
+	protected HealthResult toHealthResult(HttpResponse<byte[]> response) {
+		final var statusCode = response.statusCode();
+
+		if (statusCode != Status.HEALTHY.getHttpStatus() && statusCode != Status.UNHEALTHY.getHttpStatus()) {
+			throw new IllegalStateException(format("Remote health check [%s] returned unexpected HTTP status [%d]", name, statusCode));
+		}
+
+		final var body = response.body();
+		final var contentType = response.headers().firstValue("Content-Type").orElse("");
+
+		if (contentType.startsWith(HealthResult.CBOR_CONTENT_TYPE)) {
+			return healthResultCodec.decode(body);
+		}
+
+		try {
+			return jsonReader.readValue(body);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+}
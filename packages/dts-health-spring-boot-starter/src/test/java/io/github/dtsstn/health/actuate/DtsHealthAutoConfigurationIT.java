@@ -2,13 +2,31 @@ package io.github.dtsstn.health.actuate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+
+import javax.sql.DataSource;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import io.github.dtsstn.health.checks.DataSourceHealthCheck;
+import io.github.dtsstn.health.checks.GcPauseHealthCheck;
+import io.github.dtsstn.health.checks.HeapOccupancyHealthCheck;
+import io.github.dtsstn.health.checks.HttpHealthCheck;
+import io.github.dtsstn.health.checks.RequestLoadHealthCheck;
+import io.github.dtsstn.health.checks.TcpHealthCheck;
+import io.github.dtsstn.health.core.HealthCheck;
+import io.github.dtsstn.health.core.HealthCheckExecutor;
 import io.github.dtsstn.health.core.HealthCheckManager;
+import io.github.dtsstn.health.core.HealthCheckRegistry;
+import io.github.dtsstn.health.core.HealthJournal;
 
 class DtsHealthAutoConfigurationIT {
 
@@ -19,7 +37,75 @@ class DtsHealthAutoConfigurationIT {
 		applicationContextRunner.withUserConfiguration(DtsHealthAutoConfiguration.class)
 				.run(context ->  assertThat(context)
 						.hasBean("healthCheckManager")
-						.hasBean("dtsHealthEndpoint"));
+						.hasBean("healthResultCodec")
+						.hasBean("healthCheckRegistry")
+						.hasBean("dtsHealthEndpoint")
+						.doesNotHaveBean("healthCheckWarmup"));
+	}
+
+	@Test
+	void testDtsHealthAutoConfiguration_DuplicateHealthCheckNames() {
+		applicationContextRunner.withUserConfiguration(DtsHealthAutoConfiguration.class)
+				.withBean("apiHealthCheck", HealthCheck.class, () -> healthCheck("api"))
+				.withBean("otherApiHealthCheck", HealthCheck.class, () -> healthCheck("api"))
+				.run(context -> {
+					assertThat(context).hasNotFailed();
+					assertThat(context.getBean(HealthCheckRegistry.class).getHealthChecks()).hasSize(2);
+				});
+	}
+
+	@Test
+	void testDtsHealthAutoConfiguration_UnregisterForgetsComponent() {
+		applicationContextRunner.withUserConfiguration(DtsHealthAutoConfiguration.class)
+				.withBean(HealthCheckManager.class, () -> mock(HealthCheckManager.class))
+				.run(context -> {
+					final var healthCheckRegistry = context.getBean(HealthCheckRegistry.class);
+
+					healthCheckRegistry.register(healthCheck("tenant"));
+					healthCheckRegistry.unregister("tenant");
+
+					verify(context.getBean(HealthCheckManager.class)).forget("tenant");
+				});
+	}
+
+	@Test
+	void testDtsHealthAutoConfiguration_WarmupEnabled() {
+		applicationContextRunner.withUserConfiguration(DtsHealthAutoConfiguration.class)
+				.withPropertyValues("dts-health.warmup.enabled=true")
+				.run(context ->  assertThat(context)
+						.hasBean("healthCheckWarmup"));
+	}
+
+	@Test
+	void testDtsHealthAutoConfiguration_PublishStatusEventsEnabled() {
+		applicationContextRunner.withUserConfiguration(DtsHealthAutoConfiguration.class)
+				.withPropertyValues("dts-health.publish-status-events=true")
+				.run(context ->  assertThat(context)
+						.hasSingleBean(HealthStatusEventPublisher.class));
+	}
+
+	@Test
+	void testDtsHealthAutoConfiguration_SchedulingEnabled() {
+		applicationContextRunner.withUserConfiguration(DtsHealthAutoConfiguration.class)
+				.withPropertyValues("dts-health.scheduling.enabled=true")
+				.run(context ->  assertThat(context)
+						.hasSingleBean(HealthCheckExecutor.class));
+	}
+
+	@Test
+	void testDtsHealthAutoConfiguration_JournalEnabled(@TempDir Path tempDir) {
+		applicationContextRunner.withUserConfiguration(DtsHealthAutoConfiguration.class)
+				.withPropertyValues("dts-health.journal.enabled=true", "dts-health.journal.path=" + tempDir.resolve("health.journal"))
+				.run(context ->  assertThat(context)
+						.hasSingleBean(HealthJournal.class)
+						.hasSingleBean(DtsHealthJournalEndpoint.class));
+	}
+
+	@Test
+	void testDtsHealthAutoConfiguration_JournalEnabledWithoutPath() {
+		applicationContextRunner.withUserConfiguration(DtsHealthAutoConfiguration.class)
+				.withPropertyValues("dts-health.journal.enabled=true")
+				.run(context -> assertThat(context).hasFailed());
 	}
 
 	@Test
@@ -30,6 +116,87 @@ class DtsHealthAutoConfigurationIT {
 						.doesNotHaveBean("dtsHealthEndpoint"));
 	}
 
+	@Test
+	void testDtsHealthChecksAutoConfiguration_DataSourceCheckEnabled() {
+		applicationContextRunner.withUserConfiguration(DtsHealthChecksAutoConfiguration.class)
+				.withBean(DataSource.class, () -> mock(DataSource.class))
+				.withPropertyValues("dts-health.checks.datasource.enabled=true")
+				.run(context ->  assertThat(context)
+						.hasSingleBean(DataSourceHealthCheck.class));
+	}
+
+	@Test
+	void testDtsHealthChecksAutoConfiguration_DataSourceCheckDisabled() {
+		applicationContextRunner.withUserConfiguration(DtsHealthChecksAutoConfiguration.class)
+				.withBean(DataSource.class, () -> mock(DataSource.class))
+				.run(context ->  assertThat(context)
+						.doesNotHaveBean(DataSourceHealthCheck.class));
+	}
+
+	@Test
+	void testDtsHealthChecksAutoConfiguration_HttpAndTcpChecks() {
+		applicationContextRunner.withUserConfiguration(DtsHealthAutoConfiguration.class, DtsHealthChecksAutoConfiguration.class)
+				.withPropertyValues(
+						"dts-health.checks.http.api.url=https://api.example.com/health",
+						"dts-health.checks.http.api.timeout-millis=2000",
+						"dts-health.checks.tcp.cache.host=localhost",
+						"dts-health.checks.tcp.cache.port=6379")
+				.run(context -> {
+					final var healthCheckRegistry = context.getBean(HealthCheckRegistry.class);
+					assertThat(healthCheckRegistry.get("api")).isInstanceOf(HttpHealthCheck.class);
+					assertThat(healthCheckRegistry.get("cache")).isInstanceOf(TcpHealthCheck.class);
+				});
+	}
+
+	@Test
+	void testDtsHealthChecksAutoConfiguration_HttpCheckWithoutUrl() {
+		applicationContextRunner.withUserConfiguration(DtsHealthAutoConfiguration.class, DtsHealthChecksAutoConfiguration.class)
+				.withPropertyValues("dts-health.checks.http.api.timeout-millis=2000")
+				.run(context ->  assertThat(context)
+						.hasFailed());
+	}
+
+	@Test
+	void testDtsHealthChecksAutoConfiguration_TomcatCheckEnabled() {
+		new WebApplicationContextRunner().withUserConfiguration(DtsHealthChecksAutoConfiguration.class)
+				.withPropertyValues("dts-health.checks.tomcat.enabled=true")
+				.run(context ->  assertThat(context)
+						.hasBean("tomcatThreadPoolHealthCheck"));
+	}
+
+	@Test
+	void testDtsHealthChecksAutoConfiguration_JvmChecksEnabled() {
+		applicationContextRunner.withUserConfiguration(DtsHealthChecksAutoConfiguration.class)
+				.withPropertyValues("dts-health.checks.jvm.enabled=true")
+				.run(context ->  assertThat(context)
+						.hasNotFailed()
+						.hasSingleBean(HeapOccupancyHealthCheck.class)
+						.hasSingleBean(GcPauseHealthCheck.class));
+	}
+
+	@Test
+	void testDtsHealthChecksAutoConfiguration_RequestLoadCheckEnabled() {
+		new WebApplicationContextRunner().withUserConfiguration(DtsHealthChecksAutoConfiguration.class)
+				.withPropertyValues("dts-health.checks.request-load.enabled=true")
+				.run(context ->  assertThat(context)
+						.hasSingleBean(RequestLoadHealthCheck.class)
+						.hasBean("requestLoadFilter"));
+	}
+
+	@Test
+	void testDtsHealthChecksAutoConfiguration_RequestLoadCheckNotWebApplication() {
+		applicationContextRunner.withUserConfiguration(DtsHealthChecksAutoConfiguration.class)
+				.withPropertyValues("dts-health.checks.request-load.enabled=true")
+				.run(context ->  assertThat(context)
+						.doesNotHaveBean(RequestLoadHealthCheck.class));
+	}
+
+	static HealthCheck healthCheck(String name) {
+		final var healthCheck = mock(HealthCheck.class);
+		when(healthCheck.getName()).thenReturn(name);
+		return healthCheck;
+	}
+
 	@Configuration
 	static class TestConfig {
 
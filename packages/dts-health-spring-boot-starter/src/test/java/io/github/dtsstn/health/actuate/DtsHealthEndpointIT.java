@@ -1,6 +1,7 @@
 package io.github.dtsstn.health.actuate;
 
 import static io.github.dtsstn.health.core.HealthResult.Status.UNHEALTHY;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.boot.actuate.endpoint.Show.WHEN_AUTHORIZED;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -24,6 +25,8 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import io.github.dtsstn.health.core.HealthCheck;
 import io.github.dtsstn.health.core.HealthResult;
+import io.github.dtsstn.health.core.HealthResult.ComponentHealthResult;
+import io.github.dtsstn.health.core.HealthResultCodec;
 
 @SpringBootTest(
 		classes = { DtsHealthEndpointIT.TestConfig.class, DtsHealthAutoConfiguration.class },
@@ -67,6 +70,22 @@ class DtsHealthEndpointIT {
 				.andExpect(jsonPath("$.components[0].stackTrace").doesNotExist());
 	}
 
+	@Test
+	void testHealth_cborRequest() throws Exception {
+		final var response = mockMvc.perform(get("/actuator/dtshealth")
+				.accept(HealthResult.CBOR_CONTENT_TYPE))
+				.andExpect(content().contentType(HealthResult.CBOR_CONTENT_TYPE))
+				.andExpect(status().isServiceUnavailable())
+				.andReturn().getResponse();
+
+		final var healthResult = new HealthResultCodec().decode(response.getContentAsByteArray());
+
+		assertThat(healthResult.getStatus()).isEqualTo(UNHEALTHY);
+		assertThat(healthResult.getVersion()).isEqualTo("0.0.0");
+		assertThat(healthResult.getBuildId()).isEqualTo("0.0.0-00000000-0000");
+		assertThat(healthResult.getComponents()).extracting(ComponentHealthResult::getName).containsExactly("API");
+	}
+
 	@Configuration
 	static class TestConfig {
 
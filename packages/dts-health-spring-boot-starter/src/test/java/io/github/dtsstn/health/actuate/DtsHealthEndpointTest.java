@@ -3,6 +3,8 @@ package io.github.dtsstn.health.actuate;
 import static io.github.dtsstn.health.core.HealthResult.Status.HEALTHY;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 import java.util.Collection;
@@ -19,6 +21,9 @@ import org.springframework.boot.actuate.endpoint.Show;
 
 import io.github.dtsstn.health.core.HealthCheck;
 import io.github.dtsstn.health.core.HealthCheckManager;
+import io.github.dtsstn.health.core.HealthCheckRegistry;
+import io.github.dtsstn.health.core.HealthResult;
+import io.github.dtsstn.health.core.HealthResultCodec;
 import io.github.dtsstn.health.core.ImmutableHealthCheckOptions;
 import io.github.dtsstn.health.core.ImmutableHealthResult;
 
@@ -29,6 +34,8 @@ class DtsHealthEndpointTest {
 
 	@Mock Collection<HealthCheck> healthChecks;
 
+	@Mock HealthCheckRegistry healthCheckRegistry;
+
 	@Mock HealthCheckManager healthCheckManager;
 
 	@Mock DtsHealthProperties dtsHealthProperties;
@@ -39,7 +46,7 @@ class DtsHealthEndpointTest {
 
 	@BeforeEach
 	void beforeEach() {
-		this.dtsHealthEndpoint = new DtsHealthEndpoint(dtsHealthProperties, healthCheckManager, healthChecks);
+		this.dtsHealthEndpoint = new DtsHealthEndpoint(dtsHealthProperties, healthCheckManager, healthCheckRegistry);
 	}
 
 	@Test
@@ -66,9 +73,10 @@ class DtsHealthEndpointTest {
 				.responseTimeMs(30L)
 				.build();
 
+		when(healthCheckRegistry.getHealthChecks(Set.of("component1"))).thenReturn(healthChecks);
 		when(healthCheckManager.executeChecks(healthChecks, healthCheckOptions)).thenReturn(healthResult);
 
-		final var result = dtsHealthEndpoint.health(securityContext, includeComponents, excludeComponents, timeoutMillis, "detailed");
+		final var result = dtsHealthEndpoint.health(securityContext, HealthResultFormat.JSON, includeComponents, excludeComponents, timeoutMillis, "detailed");
 
 		assertThat(result.getStatus()).isEqualTo(status.getHttpStatus());
 		assertThat(result.getBody()).isEqualTo(healthResult);
@@ -97,14 +105,38 @@ class DtsHealthEndpointTest {
 				.responseTimeMs(30L)
 				.build();
 
+		when(healthCheckRegistry.getHealthChecks(Set.of())).thenReturn(healthChecks);
 		when(healthCheckManager.executeChecks(healthChecks, healthCheckOptions)).thenReturn(healthResult);
 
-		final var result = dtsHealthEndpoint.health(securityContext, null, null, null, null);
+		final var result = dtsHealthEndpoint.health(securityContext, HealthResultFormat.JSON, null, null, null, null);
 
 		assertThat(result.getStatus()).isEqualTo(status.getHttpStatus());
 		assertThat(result.getBody()).isEqualTo(healthResult);
 	}
 
+	@Test
+	void testHealth_CborFormat() {
+		final var roles = Set.of("ADMIN");
+		when(dtsHealthProperties.getRoles()).thenReturn(roles);
+		when(dtsHealthProperties.getShowDetails()).thenReturn(show);
+		when(show.isShown(securityContext, roles)).thenReturn(true);
+		when(dtsHealthProperties.getDefaultTimeoutMillis()).thenReturn(30L);
+
+		final var healthResult = ImmutableHealthResult.builder()
+				.status(HEALTHY)
+				.responseTimeMs(30L)
+				.build();
+
+		when(healthCheckRegistry.getHealthChecks(Set.of())).thenReturn(healthChecks);
+		when(healthCheckManager.executeChecks(eq(healthChecks), any())).thenReturn(healthResult);
+
+		final var result = dtsHealthEndpoint.health(securityContext, HealthResultFormat.CBOR, null, null, null, null);
+
+		assertThat(result.getStatus()).isEqualTo(HEALTHY.getHttpStatus());
+		assertThat(result.getContentType()).hasToString(HealthResult.CBOR_CONTENT_TYPE);
+		assertThat(new HealthResultCodec().decode((byte[]) result.getBody())).isEqualTo(healthResult);
+	}
+
 	@Test
 	void testIncludeDetails_DetailedAndShown() {
 		when(dtsHealthProperties.getShowDetails()).thenReturn(show);
@@ -0,0 +1,84 @@
+package io.github.dtsstn.health.actuate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.endpoint.SecurityContext;
+import org.springframework.boot.actuate.endpoint.Show;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+
+import io.github.dtsstn.health.core.HealthJournal;
+import io.github.dtsstn.health.core.HealthJournalEntry;
+import io.github.dtsstn.health.core.HealthResult.ComponentHealthResult;
+import io.github.dtsstn.health.core.ImmutableHealthJournalEntry;
+
+@ExtendWith(MockitoExtension.class)
+class DtsHealthJournalEndpointTest {
+
+	DtsHealthJournalEndpoint dtsHealthJournalEndpoint;
+
+	@Mock HealthJournal healthJournal;
+
+	@Mock DtsHealthProperties dtsHealthProperties;
+
+	@Mock SecurityContext securityContext;
+
+	@Mock Show show;
+
+	@BeforeEach
+	void beforeEach() {
+		this.dtsHealthJournalEndpoint = new DtsHealthJournalEndpoint(dtsHealthProperties, healthJournal);
+	}
+
+	@Test
+	void testJournal_Shown() {
+		final var roles = Set.of("ADMIN");
+		when(dtsHealthProperties.getRoles()).thenReturn(roles);
+		when(dtsHealthProperties.getShowDetails()).thenReturn(show);
+		when(show.isShown(securityContext, roles)).thenReturn(true);
+
+		final var entries = LongStream.range(0, 3).mapToObj(DtsHealthJournalEndpointTest::entry).toList();
+		when(healthJournal.getEntries()).thenReturn(entries);
+
+		final var result = dtsHealthJournalEndpoint.journal(securityContext, 2);
+
+		assertThat(result.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+		assertThat(result.getBody()).extracting(HealthJournalEntry::getSequence).containsExactly(1L, 2L);
+	}
+
+	@Test
+	void testJournal_NotShown() {
+		final var roles = Set.of("ADMIN");
+		when(dtsHealthProperties.getRoles()).thenReturn(roles);
+		when(dtsHealthProperties.getShowDetails()).thenReturn(show);
+		when(show.isShown(securityContext, roles)).thenReturn(false);
+
+		final var result = dtsHealthJournalEndpoint.journal(securityContext, null);
+
+		assertThat(result.getStatus()).isEqualTo(DtsHealthJournalEndpoint.STATUS_FORBIDDEN);
+		assertThat(result.getBody()).isNull();
+		verify(healthJournal, never()).getEntries();
+	}
+
+	static HealthJournalEntry entry(long sequence) {
+		return ImmutableHealthJournalEntry.builder()
+				.sequence(sequence)
+				.timestamp(Instant.ofEpochSecond(sequence))
+				.name("API")
+				.status(ComponentHealthResult.Status.HEALTHY)
+				.responseTimeMs(10)
+				.build();
+	}
+
+}
@@ -0,0 +1,40 @@
+package io.github.dtsstn.health.actuate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.boot.actuate.endpoint.SecurityContext;
+
+import io.github.dtsstn.health.core.ImmutableComponentHealthResult;
+import io.github.dtsstn.health.core.ImmutableHealthResult;
+
+class DtsHealthRuntimeHintsTest {
+
+	RuntimeHints runtimeHints;
+
+	@BeforeEach
+	void beforeEach() {
+		this.runtimeHints = new RuntimeHints();
+		new DtsHealthRuntimeHints().registerHints(runtimeHints, getClass().getClassLoader());
+	}
+
+	@Test
+	void testRegisterHints_HealthResults() {
+		assertThat(RuntimeHintsPredicates.reflection().onType(ImmutableHealthResult.class)).accepts(runtimeHints);
+		assertThat(RuntimeHintsPredicates.reflection().onType(ImmutableComponentHealthResult.class)).accepts(runtimeHints);
+	}
+
+	@Test
+	void testRegisterHints_Endpoints() throws Exception {
+		final var health = DtsHealthEndpoint.class.getMethod("health", SecurityContext.class, HealthResultFormat.class, Collection.class, Collection.class, Long.class, String.class);
+
+		assertThat(RuntimeHintsPredicates.reflection().onMethod(health)).accepts(runtimeHints);
+		assertThat(RuntimeHintsPredicates.reflection().onType(DtsHealthJournalEndpoint.class)).accepts(runtimeHints);
+	}
+
+}
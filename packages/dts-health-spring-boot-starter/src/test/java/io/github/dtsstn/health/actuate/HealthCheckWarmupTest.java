@@ -0,0 +1,114 @@
+package io.github.dtsstn.health.actuate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.github.dtsstn.health.core.HealthCheck;
+import io.github.dtsstn.health.core.HealthCheckManager;
+import io.github.dtsstn.health.core.HealthCheckOptions;
+import io.github.dtsstn.health.core.HealthCheckRegistry;
+import io.github.dtsstn.health.core.HealthResult.Status;
+import io.github.dtsstn.health.core.ImmutableHealthResult;
+
+@ExtendWith(MockitoExtension.class)
+class HealthCheckWarmupTest {
+
+	@Mock HealthCheckManager healthCheckManager;
+
+	@Mock HealthCheck healthCheck;
+
+	DtsHealthProperties dtsHealthProperties;
+
+	@BeforeEach
+	void beforeEach() {
+		this.dtsHealthProperties = new DtsHealthProperties();
+	}
+
+	@Test
+	void testWarmup_UsesWarmupTimeout() {
+		dtsHealthProperties.getWarmup().setTimeoutMillis(500L);
+
+		when(healthCheck.getName()).thenReturn("API");
+
+		final var healthCheckRegistry = new HealthCheckRegistry(List.of(healthCheck));
+		final var healthChecks = healthCheckRegistry.getHealthChecks();
+		final var healthResult = ImmutableHealthResult.builder()
+				.status(Status.HEALTHY)
+				.responseTimeMs(1L)
+				.build();
+
+		when(healthCheckManager.executeChecks(eq(healthChecks), any())).thenReturn(healthResult);
+
+		final var result = new HealthCheckWarmup(dtsHealthProperties, healthCheckManager, healthCheckRegistry).warmup();
+
+		final var healthCheckOptions = ArgumentCaptor.forClass(HealthCheckOptions.class);
+		verify(healthCheckManager).executeChecks(eq(healthChecks), healthCheckOptions.capture());
+
+		assertThat(result).isEqualTo(healthResult);
+		assertThat(healthCheckOptions.getValue().getTimeoutMillis()).isEqualTo(500L);
+	}
+
+	@Test
+	void testWarmup_DefaultsToDefaultTimeout() {
+		when(healthCheck.getName()).thenReturn("API");
+
+		final var healthCheckRegistry = new HealthCheckRegistry(List.of(healthCheck));
+		final var healthChecks = healthCheckRegistry.getHealthChecks();
+		final var healthResult = ImmutableHealthResult.builder()
+				.status(Status.HEALTHY)
+				.responseTimeMs(1L)
+				.build();
+
+		when(healthCheckManager.executeChecks(eq(healthChecks), any())).thenReturn(healthResult);
+
+		new HealthCheckWarmup(dtsHealthProperties, healthCheckManager, healthCheckRegistry).warmup();
+
+		final var healthCheckOptions = ArgumentCaptor.forClass(HealthCheckOptions.class);
+		verify(healthCheckManager).executeChecks(eq(healthChecks), healthCheckOptions.capture());
+
+		assertThat(healthCheckOptions.getValue().getTimeoutMillis()).isEqualTo(dtsHealthProperties.getDefaultTimeoutMillis());
+	}
+
+	@Test
+	void testWarmup_ExecutesEveryComponentWhenSampling() {
+		final var executions = new CopyOnWriteArrayList<String>();
+		final var healthChecks = IntStream.range(0, 5)
+				.mapToObj(i -> (HealthCheck) new HealthCheck() {
+
+					@Override
+					public String getName() {
+						return "component" + i;
+					}
+
+					@Override
+					public void execute() {
+						executions.add(getName());
+					}
+
+				})
+				.toList();
+
+		final var sampledHealthCheckManager = new HealthCheckManager();
+		sampledHealthCheckManager.setMaxComponentsPerRequest(2);
+
+		final var result = new HealthCheckWarmup(dtsHealthProperties, sampledHealthCheckManager, new HealthCheckRegistry(healthChecks)).warmup();
+
+		assertThat(executions).containsExactlyInAnyOrderElementsOf(healthChecks.stream().map(HealthCheck::getName).toList());
+		assertThat(result.getComponents()).hasSize(5).allMatch(component -> component.getAgeMs() == null);
+	}
+
+}
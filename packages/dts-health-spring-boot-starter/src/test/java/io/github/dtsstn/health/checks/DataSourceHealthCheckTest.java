@@ -0,0 +1,108 @@
+package io.github.dtsstn.health.checks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DataSourceHealthCheckTest {
+
+	@Mock DataSource dataSource;
+
+	@Mock Connection connection;
+
+	@Test
+	void testExecute_ValidConnection() throws SQLException {
+		when(dataSource.getConnection()).thenReturn(connection);
+		when(connection.isValid(2)).thenReturn(true);
+
+		final var dataSourceHealthCheck = new DataSourceHealthCheck("database", dataSource, Duration.ofSeconds(10));
+
+		assertThatNoException().isThrownBy(() -> dataSourceHealthCheck.execute(Duration.ofMillis(1500)));
+		verify(connection).close();
+	}
+
+	@Test
+	void testExecute_ValidationBoundedByNetworkTimeout() throws SQLException {
+		when(dataSource.getConnection()).thenReturn(connection);
+		when(connection.getNetworkTimeout()).thenReturn(30_000);
+		when(connection.isValid(1)).thenReturn(true);
+
+		final var dataSourceHealthCheck = new DataSourceHealthCheck("database", dataSource, Duration.ofSeconds(10));
+
+		assertThatNoException().isThrownBy(() -> dataSourceHealthCheck.execute(Duration.ofMillis(300)));
+
+		final var networkTimeouts = ArgumentCaptor.forClass(Integer.class);
+		verify(connection, times(2)).setNetworkTimeout(any(), networkTimeouts.capture());
+		assertThat(networkTimeouts.getAllValues().get(0)).isBetween(1, 300);
+		assertThat(networkTimeouts.getAllValues().get(1)).isEqualTo(30_000);
+	}
+
+	@Test
+	void testExecute_NetworkTimeoutNotSupported() throws SQLException {
+		when(dataSource.getConnection()).thenReturn(connection);
+		when(connection.getNetworkTimeout()).thenThrow(new SQLFeatureNotSupportedException());
+		when(connection.isValid(1)).thenReturn(true);
+
+		final var dataSourceHealthCheck = new DataSourceHealthCheck("database", dataSource, Duration.ofSeconds(10));
+
+		assertThatNoException().isThrownBy(() -> dataSourceHealthCheck.execute(Duration.ofMillis(300)));
+		verify(connection, never()).setNetworkTimeout(any(), anyInt());
+	}
+
+	@Test
+	void testExecute_InvalidConnection() throws SQLException {
+		when(dataSource.getConnection()).thenReturn(connection);
+		when(connection.isValid(1)).thenReturn(false);
+
+		final var dataSourceHealthCheck = new DataSourceHealthCheck("database", dataSource, Duration.ofSeconds(1));
+
+		assertThatIllegalStateException().isThrownBy(dataSourceHealthCheck::execute);
+		verify(connection).close();
+	}
+
+	@Test
+	void testExecute_NoConnection() throws SQLException {
+		when(dataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+		final var dataSourceHealthCheck = new DataSourceHealthCheck("database", dataSource, Duration.ofSeconds(1));
+
+		assertThatIllegalStateException().isThrownBy(dataSourceHealthCheck::execute)
+				.withCauseInstanceOf(SQLException.class);
+	}
+
+	@Test
+	void testExecute_ConnectionWaitExceedsTimeout() throws SQLException {
+		when(dataSource.getConnection()).thenAnswer(invocation -> {
+			Thread.sleep(50);
+			return connection;
+		});
+
+		final var dataSourceHealthCheck = new DataSourceHealthCheck("database", dataSource, Duration.ofMillis(10));
+
+		assertThatIllegalStateException().isThrownBy(dataSourceHealthCheck::execute)
+				.withMessageContaining("within [10 ms]");
+		verify(connection, never()).isValid(anyInt());
+		verify(connection).close();
+	}
+
+}
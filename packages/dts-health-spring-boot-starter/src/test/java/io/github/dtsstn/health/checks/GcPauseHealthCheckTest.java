@@ -0,0 +1,50 @@
+package io.github.dtsstn.health.checks;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.Mockito.when;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GcPauseHealthCheckTest {
+
+	@Mock GarbageCollectorMXBean youngCollector;
+
+	@Mock GarbageCollectorMXBean concurrentCollector;
+
+	final AtomicLong nanoTime = new AtomicLong();
+
+	@Test
+	void testExecute_FirstMeasurementWithinMinimumInterval() {
+		when(youngCollector.getName()).thenReturn("G1 Young Generation");
+		when(youngCollector.getCollectionTime()).thenReturn(0L);
+
+		final var gcPauseHealthCheck = new GcPauseHealthCheck("gc", 0.1, List.of(youngCollector), nanoTime::get);
+
+		assertThatNoException().isThrownBy(gcPauseHealthCheck::execute);
+	}
+
+	@Test
+	void testExecute_PauseRatioExceeded() {
+		when(youngCollector.getName()).thenReturn("G1 Young Generation");
+		when(concurrentCollector.getName()).thenReturn("G1 Concurrent GC");
+		when(youngCollector.getCollectionTime()).thenReturn(0L, 1000L);
+
+		final var gcPauseHealthCheck = new GcPauseHealthCheck("gc", 0.1, List.of(youngCollector, concurrentCollector), nanoTime::get);
+
+		nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(1100));
+
+		assertThatIllegalStateException().isThrownBy(gcPauseHealthCheck::execute)
+				.withMessageContaining("GC pause ratio");
+	}
+
+}
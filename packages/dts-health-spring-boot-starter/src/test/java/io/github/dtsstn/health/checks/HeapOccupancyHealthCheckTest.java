@@ -0,0 +1,111 @@
+package io.github.dtsstn.health.checks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class HeapOccupancyHealthCheckTest {
+
+	@Mock MemoryPoolMXBean edenPool;
+
+	@Mock MemoryPoolMXBean oldGenPool;
+
+	@Mock GarbageCollectorMXBean oldCollector;
+
+	@BeforeEach
+	void beforeEach() {
+		when(edenPool.getName()).thenReturn("G1 Eden Space");
+		when(edenPool.getType()).thenReturn(MemoryType.HEAP);
+		when(edenPool.isCollectionUsageThresholdSupported()).thenReturn(true);
+
+		when(oldGenPool.getName()).thenReturn("G1 Old Gen");
+		when(oldGenPool.getType()).thenReturn(MemoryType.HEAP);
+		when(oldGenPool.isCollectionUsageThresholdSupported()).thenReturn(true);
+		when(oldGenPool.getMemoryManagerNames()).thenReturn(new String[] { "G1 Old Generation" });
+
+		when(oldCollector.getName()).thenReturn("G1 Old Generation");
+		when(oldCollector.getCollectionCount()).thenReturn(1L);
+	}
+
+	@Test
+	void testFindLongLivedPool_OldGeneration() {
+		assertThat(HeapOccupancyHealthCheck.findLongLivedPool(List.of(edenPool, oldGenPool))).contains(oldGenPool);
+	}
+
+	@Test
+	void testExecute_BelowThreshold() {
+		when(oldGenPool.getCollectionUsage()).thenReturn(new MemoryUsage(0, 50, 100, 100));
+
+		final var heapOccupancyHealthCheck = new HeapOccupancyHealthCheck("heap", 0.9, List.of(edenPool, oldGenPool), List.of(oldCollector));
+
+		assertThatNoException().isThrownBy(heapOccupancyHealthCheck::execute);
+	}
+
+	@Test
+	void testExecute_AboveThreshold() {
+		when(oldGenPool.getCollectionUsage()).thenReturn(new MemoryUsage(0, 95, 100, 100));
+
+		final var heapOccupancyHealthCheck = new HeapOccupancyHealthCheck("heap", 0.9, List.of(edenPool, oldGenPool), List.of(oldCollector));
+
+		assertThatIllegalStateException().isThrownBy(heapOccupancyHealthCheck::execute)
+				.withMessageContaining("G1 Old Gen");
+	}
+
+	@Test
+	void testExecute_ReadsUsageOnlyAfterCollection() {
+		when(oldGenPool.getCollectionUsage()).thenReturn(new MemoryUsage(0, 50, 100, 100), new MemoryUsage(0, 95, 100, 100));
+		when(oldCollector.getCollectionCount()).thenReturn(1L, 1L, 2L);
+
+		final var heapOccupancyHealthCheck = new HeapOccupancyHealthCheck("heap", 0.9, List.of(edenPool, oldGenPool), List.of(oldCollector));
+
+		assertThatNoException().isThrownBy(heapOccupancyHealthCheck::execute);
+		assertThatNoException().isThrownBy(heapOccupancyHealthCheck::execute);
+		verify(oldGenPool, times(1)).getCollectionUsage();
+
+		assertThatIllegalStateException().isThrownBy(heapOccupancyHealthCheck::execute);
+		verify(oldGenPool, times(2)).getCollectionUsage();
+	}
+
+	@Test
+	void testExecute_ReadsUsageEveryTimeWithoutCollectionCount() {
+		when(oldGenPool.getCollectionUsage()).thenReturn(new MemoryUsage(0, 50, 100, 100), new MemoryUsage(0, 95, 100, 100));
+		when(oldCollector.getCollectionCount()).thenReturn(-1L);
+
+		final var heapOccupancyHealthCheck = new HeapOccupancyHealthCheck("heap", 0.9, List.of(edenPool, oldGenPool), List.of(oldCollector));
+
+		assertThatNoException().isThrownBy(heapOccupancyHealthCheck::execute);
+		assertThatIllegalStateException().isThrownBy(heapOccupancyHealthCheck::execute);
+		verify(oldGenPool, times(2)).getCollectionUsage();
+	}
+
+	@Test
+	void testExecute_UnknownPools() {
+		when(edenPool.getName()).thenReturn("Epsilon Heap A");
+		when(oldGenPool.getName()).thenReturn("Epsilon Heap B");
+
+		final var heapOccupancyHealthCheck = new HeapOccupancyHealthCheck("heap", 0.9, List.of(edenPool, oldGenPool), List.of());
+
+		assertThatNoException().isThrownBy(heapOccupancyHealthCheck::execute);
+		assertThat(heapOccupancyHealthCheck.getMetadata()).doesNotContainKey("pool");
+	}
+
+}
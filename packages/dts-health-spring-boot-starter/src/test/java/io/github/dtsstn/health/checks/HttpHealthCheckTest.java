@@ -0,0 +1,66 @@
+package io.github.dtsstn.health.checks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+class HttpHealthCheckTest {
+
+	final CopyOnWriteArrayList<String> requestMethods = new CopyOnWriteArrayList<>();
+
+	HttpServer httpServer;
+
+	@BeforeEach
+	void beforeEach() throws IOException {
+		this.httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		this.httpServer.createContext("/ok", exchange -> {
+			requestMethods.add(exchange.getRequestMethod());
+			exchange.sendResponseHeaders(200, -1);
+			exchange.close();
+		});
+		this.httpServer.createContext("/error", exchange -> {
+			exchange.sendResponseHeaders(500, -1);
+			exchange.close();
+		});
+		this.httpServer.start();
+	}
+
+	@AfterEach
+	void afterEach() {
+		httpServer.stop(0);
+	}
+
+	@Test
+	void testExecute_SuccessfulResponse() {
+		final var httpHealthCheck = new HttpHealthCheck("api", uri("/ok"), Duration.ofSeconds(5));
+
+		assertThatNoException().isThrownBy(() -> httpHealthCheck.execute(Duration.ofSeconds(1)));
+		assertThat(requestMethods).containsExactly("HEAD");
+		assertThat(httpHealthCheck.getMetadata()).containsEntry("url", uri("/ok").toString());
+	}
+
+	@Test
+	void testExecute_ErrorResponse() {
+		final var httpHealthCheck = new HttpHealthCheck("api", uri("/error"), Duration.ofSeconds(5));
+
+		assertThatIllegalStateException().isThrownBy(httpHealthCheck::execute)
+				.withMessageContaining("500");
+	}
+
+	URI uri(String path) {
+		return URI.create("http://localhost:" + httpServer.getAddress().getPort() + path);
+	}
+
+}
@@ -0,0 +1,60 @@
+package io.github.dtsstn.health.checks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestLoadFilterTest {
+
+	private final RequestLoadHealthCheck requestLoadHealthCheck = mock(RequestLoadHealthCheck.class);
+
+	private final RequestLoadFilter requestLoadFilter = new RequestLoadFilter(requestLoadHealthCheck, List.of("/actuator"));
+
+	@Test
+	void testDoFilter_ReportsRequest() throws Exception {
+		when(requestLoadHealthCheck.requestStarted()).thenReturn(42L);
+
+		requestLoadFilter.doFilter(new MockHttpServletRequest("GET", "/api/users"), new MockHttpServletResponse(), new MockFilterChain());
+
+		verify(requestLoadHealthCheck).requestCompleted(42L);
+	}
+
+	@Test
+	void testDoFilter_ExcludedPath() throws Exception {
+		final var request = new MockHttpServletRequest("GET", "/app/actuator/dtshealth");
+		request.setContextPath("/app");
+
+		requestLoadFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+		verify(requestLoadHealthCheck, never()).requestStarted();
+		verify(requestLoadHealthCheck, never()).requestCompleted(anyLong());
+	}
+
+	@Test
+	void testDoFilter_AsyncRequest() throws Exception {
+		when(requestLoadHealthCheck.requestStarted()).thenReturn(42L);
+
+		final var request = new MockHttpServletRequest("GET", "/api/users");
+		request.setAsyncSupported(true);
+
+		requestLoadFilter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+		assertThat(request.isAsyncStarted()).isTrue();
+		verify(requestLoadHealthCheck, never()).requestCompleted(anyLong());
+
+		request.getAsyncContext().complete();
+
+		verify(requestLoadHealthCheck).requestCompleted(42L);
+	}
+
+}
@@ -0,0 +1,130 @@
+package io.github.dtsstn.health.checks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.dtsstn.health.core.HealthCheck.Priority;
+
+class RequestLoadHealthCheckTest {
+
+	private final AtomicLong nanoTime = new AtomicLong();
+
+	private final RequestLoadHealthCheck requestLoadHealthCheck = new RequestLoadHealthCheck("requests", 10, 100, 0.5, 0.5, nanoTime::get);
+
+	@Test
+	void testExecute_NotOverloaded() {
+		completeRequest(50);
+
+		assertThatNoException().isThrownBy(requestLoadHealthCheck::execute);
+		assertThat(requestLoadHealthCheck.getInFlight()).isZero();
+		assertThat(requestLoadHealthCheck.getResponseTimeMillis()).isEqualTo(50);
+		assertThat(requestLoadHealthCheck.getPriority()).isEqualTo(Priority.CRITICAL);
+	}
+
+	@Test
+	void testExecute_TooManyInFlight() {
+		for (int i = 0; i < 11; i++) {
+			requestLoadHealthCheck.requestStarted();
+		}
+
+		assertThat(requestLoadHealthCheck.getInFlight()).isEqualTo(11);
+		assertThatIllegalStateException().isThrownBy(requestLoadHealthCheck::execute)
+				.withMessageContaining("[11] requests in flight");
+	}
+
+	@Test
+	void testExecute_ResponseTimeExceeded() {
+		completeRequest(300);
+
+		assertThatIllegalStateException().isThrownBy(requestLoadHealthCheck::execute)
+				.withMessageContaining("average response time of [300 ms]");
+	}
+
+	@Test
+	void testExecute_RecoversBelowRecoveryRatio() {
+		completeRequest(300);
+		assertThatIllegalStateException().isThrownBy(requestLoadHealthCheck::execute);
+
+		// 300 -> 160: below the threshold, but not below the recovery threshold (50)
+		completeRequest(20);
+		assertThat(requestLoadHealthCheck.getResponseTimeMillis()).isCloseTo(160, within(1.0));
+		assertThatIllegalStateException().isThrownBy(requestLoadHealthCheck::execute);
+
+		// 160 -> 90 -> 55 -> 37.5
+		completeRequest(20);
+		completeRequest(20);
+		completeRequest(20);
+		assertThatNoException().isThrownBy(requestLoadHealthCheck::execute);
+	}
+
+	@Test
+	void testExecute_RecoversWhenIdle() {
+		completeRequest(300);
+		assertThatIllegalStateException().isThrownBy(requestLoadHealthCheck::execute);
+
+		nanoTime.addAndGet(3 * RequestLoadHealthCheck.IDLE_DECAY_NANOS);
+
+		assertThat(requestLoadHealthCheck.getResponseTimeMillis()).isLessThan(50);
+		assertThatNoException().isThrownBy(requestLoadHealthCheck::execute);
+	}
+
+	@Test
+	void testExecute_DoesNotDecayWhileRequestsAreInFlight() {
+		completeRequest(300);
+		assertThatIllegalStateException().isThrownBy(requestLoadHealthCheck::execute);
+
+		final var startNanos = requestLoadHealthCheck.requestStarted();
+		nanoTime.addAndGet(3 * RequestLoadHealthCheck.IDLE_DECAY_NANOS);
+
+		assertThat(requestLoadHealthCheck.getResponseTimeMillis()).isEqualTo(300);
+		assertThatIllegalStateException().isThrownBy(requestLoadHealthCheck::execute);
+
+		requestLoadHealthCheck.requestCompleted(startNanos);
+		assertThat(requestLoadHealthCheck.getInFlight()).isZero();
+		assertThatIllegalStateException().isThrownBy(requestLoadHealthCheck::execute);
+
+		// once nothing is in flight, the average decays again
+		nanoTime.addAndGet(10 * RequestLoadHealthCheck.IDLE_DECAY_NANOS);
+		assertThatNoException().isThrownBy(requestLoadHealthCheck::execute);
+	}
+
+	@Test
+	void testExecute_LongLivedRequestInFlight() {
+		completeRequest(20);
+
+		// e.g. a server-sent event stream: open for far longer than the response time objective
+		requestLoadHealthCheck.requestStarted();
+		nanoTime.addAndGet(TimeUnit.MINUTES.toNanos(5));
+
+		assertThat(requestLoadHealthCheck.getInFlight()).isEqualTo(1);
+		assertThat(requestLoadHealthCheck.getResponseTimeMillis()).isEqualTo(20);
+		assertThatNoException().isThrownBy(requestLoadHealthCheck::execute);
+	}
+
+	@Test
+	void testRequestCompleted_RequestsStartedAtTheSameTime() {
+		final var firstStartNanos = requestLoadHealthCheck.requestStarted();
+		final var secondStartNanos = requestLoadHealthCheck.requestStarted();
+		nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(40));
+
+		requestLoadHealthCheck.requestCompleted(firstStartNanos);
+		requestLoadHealthCheck.requestCompleted(secondStartNanos);
+
+		assertThat(requestLoadHealthCheck.getInFlight()).isZero();
+		assertThat(requestLoadHealthCheck.getResponseTimeMillis()).isEqualTo(40);
+	}
+
+	private void completeRequest(long responseTimeMillis) {
+		final var startNanos = requestLoadHealthCheck.requestStarted();
+		nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(responseTimeMillis));
+		requestLoadHealthCheck.requestCompleted(startNanos);
+	}
+
+}
@@ -0,0 +1,44 @@
+package io.github.dtsstn.health.checks;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class TcpHealthCheckTest {
+
+	@Test
+	void testExecute_PortOpen() throws IOException {
+		try (var serverSocket = new ServerSocket(0)) {
+			final var tcpHealthCheck = new TcpHealthCheck("cache", "localhost", serverSocket.getLocalPort(), Duration.ofSeconds(1));
+
+			assertThatNoException().isThrownBy(tcpHealthCheck::execute);
+		}
+	}
+
+	@Test
+	void testExecute_PortClosed() throws IOException {
+		final int port;
+
+		try (var serverSocket = new ServerSocket(0)) {
+			port = serverSocket.getLocalPort();
+		}
+
+		final var tcpHealthCheck = new TcpHealthCheck("cache", "localhost", port, Duration.ofSeconds(1));
+
+		assertThatIllegalStateException().isThrownBy(tcpHealthCheck::execute);
+	}
+
+	@Test
+	void testExecute_UnresolvableHost() {
+		final var tcpHealthCheck = new TcpHealthCheck("cache", "unresolvable.invalid", 6379, Duration.ofSeconds(1));
+
+		assertThatIllegalStateException().isThrownBy(tcpHealthCheck::execute)
+				.withMessageContaining("Could not resolve");
+	}
+
+}
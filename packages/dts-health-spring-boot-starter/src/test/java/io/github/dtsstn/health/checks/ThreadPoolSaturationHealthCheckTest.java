@@ -0,0 +1,107 @@
+package io.github.dtsstn.health.checks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.junit.jupiter.api.Test;
+
+class ThreadPoolSaturationHealthCheckTest {
+
+	@Test
+	void testExecute_NotSaturated() {
+		final var threadPoolSaturationHealthCheck = new ThreadPoolSaturationHealthCheck("workers", () -> 5, () -> 10, () -> 0, 0.9, 10);
+
+		assertThatNoException().isThrownBy(threadPoolSaturationHealthCheck::execute);
+	}
+
+	@Test
+	void testExecute_ThreadsSaturated() {
+		final var threadPoolSaturationHealthCheck = new ThreadPoolSaturationHealthCheck("workers", () -> 10, () -> 10, () -> 0, 0.9, 10);
+
+		assertThatIllegalStateException().isThrownBy(threadPoolSaturationHealthCheck::execute)
+				.withMessageContaining("threads busy");
+	}
+
+	@Test
+	void testExecute_QueueSaturated() {
+		final var threadPoolSaturationHealthCheck = new ThreadPoolSaturationHealthCheck("workers", () -> 5, () -> 10, () -> 50, 0.9, 10);
+
+		assertThatIllegalStateException().isThrownBy(threadPoolSaturationHealthCheck::execute)
+				.withMessageContaining("queued tasks");
+	}
+
+	@Test
+	void testMBeanAttribute() throws Exception {
+		final var mBeanServer = MBeanServerFactory.newMBeanServer();
+		mBeanServer.registerMBean(new StandardMBean(new ThreadPool(8, 10), ThreadPoolMBean.class), new ObjectName("Tomcat:type=ThreadPool,name=\"http-nio-8080\""));
+		mBeanServer.registerMBean(new StandardMBean(new ThreadPool(2, 10), ThreadPoolMBean.class), new ObjectName("Tomcat:type=ThreadPool,name=\"http-nio-8443\""));
+
+		final var objectName = ThreadPoolSaturationHealthCheck.objectName("Tomcat:type=ThreadPool,name=*");
+
+		final var threadPoolSaturationHealthCheck = new ThreadPoolSaturationHealthCheck("tomcat",
+				ThreadPoolSaturationHealthCheck.mBeanAttribute(mBeanServer, objectName, "CurrentThreadsBusy"),
+				ThreadPoolSaturationHealthCheck.mBeanAttribute(mBeanServer, objectName, "MaxThreads"),
+				() -> 0, 0.9, 0);
+
+		assertThatNoException().isThrownBy(threadPoolSaturationHealthCheck::execute);
+
+		mBeanServer.registerMBean(new StandardMBean(new ThreadPool(10, 0), ThreadPoolMBean.class), new ObjectName("Tomcat:type=ThreadPool,name=\"ajp-nio-8009\""));
+
+		assertThatIllegalStateException().isThrownBy(threadPoolSaturationHealthCheck::execute)
+				.withMessageContaining("[20] of [20] threads busy");
+	}
+
+	@Test
+	void testMBeanAttribute_QueriesNamesOnlyWhenMBeansChange() throws Exception {
+		final var mBeanServer = spy(MBeanServerFactory.newMBeanServer());
+		mBeanServer.registerMBean(new StandardMBean(new ThreadPool(8, 10), ThreadPoolMBean.class), new ObjectName("Tomcat:type=ThreadPool,name=\"http-nio-8080\""));
+
+		final var objectName = ThreadPoolSaturationHealthCheck.objectName("Tomcat:type=ThreadPool,name=*");
+		final var currentThreadsBusy = ThreadPoolSaturationHealthCheck.mBeanAttribute(mBeanServer, objectName, "CurrentThreadsBusy");
+
+		assertThat(currentThreadsBusy.getAsInt()).isEqualTo(8);
+		assertThat(currentThreadsBusy.getAsInt()).isEqualTo(8);
+		verify(mBeanServer, times(1)).queryNames(objectName, null);
+
+		mBeanServer.unregisterMBean(new ObjectName("Tomcat:type=ThreadPool,name=\"http-nio-8080\""));
+
+		assertThat(currentThreadsBusy.getAsInt()).isZero();
+		verify(mBeanServer, times(2)).queryNames(objectName, null);
+	}
+
+	@Test
+	void testForTomcat_NoMBeans() {
+		assertThatNoException().isThrownBy(ThreadPoolSaturationHealthCheck.forTomcat("tomcat", 0.9)::execute);
+	}
+
+	public interface ThreadPoolMBean {
+
+		int getCurrentThreadsBusy();
+
+		int getMaxThreads();
+
+	}
+
+	record ThreadPool(int currentThreadsBusy, int maxThreads) implements ThreadPoolMBean {
+
+		@Override
+		public int getCurrentThreadsBusy() {
+			return currentThreadsBusy;
+		}
+
+		@Override
+		public int getMaxThreads() {
+			return maxThreads;
+		}
+
+	}
+
+}
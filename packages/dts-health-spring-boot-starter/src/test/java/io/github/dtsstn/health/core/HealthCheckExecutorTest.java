@@ -0,0 +1,66 @@
+package io.github.dtsstn.health.core;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.dtsstn.health.core.HealthCheck.Priority;
+
+class HealthCheckExecutorTest {
+
+	@Test
+	void testExecute_CriticalNotBlockedBySaturatedSharedThreads() throws Exception {
+		try (final var healthCheckExecutor = new HealthCheckExecutor(1, 1)) {
+			final var release = new CountDownLatch(1);
+
+			healthCheckExecutor.execute(Priority.LOW, () -> await(release));
+			healthCheckExecutor.execute(Priority.LOW, () -> await(release));
+
+			final var critical = CompletableFuture.runAsync(() -> {}, healthCheckExecutor.forPriority(Priority.CRITICAL));
+
+			critical.get(1, SECONDS);
+			assertThat(healthCheckExecutor.getQueuedTasks()).isOne();
+
+			release.countDown();
+		}
+	}
+
+	@Test
+	void testExecute_QueuedTasksRunInPriorityOrder() throws Exception {
+		try (final var healthCheckExecutor = new HealthCheckExecutor(1, 0)) {
+			final var release = new CountDownLatch(1);
+			final var done = new CountDownLatch(3);
+			final var executionOrder = new CopyOnWriteArrayList<Priority>();
+
+			healthCheckExecutor.execute(Priority.NORMAL, () -> await(release));
+
+			for (final var priority : List.of(Priority.LOW, Priority.NORMAL, Priority.CRITICAL)) {
+				healthCheckExecutor.execute(priority, () -> {
+					executionOrder.add(priority);
+					done.countDown();
+				});
+			}
+
+			release.countDown();
+
+			assertThat(done.await(1, SECONDS)).isTrue();
+			assertThat(executionOrder).containsExactly(Priority.CRITICAL, Priority.NORMAL, Priority.LOW);
+		}
+	}
+
+	static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
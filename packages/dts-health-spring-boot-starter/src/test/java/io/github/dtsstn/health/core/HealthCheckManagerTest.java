@@ -2,12 +2,31 @@ package io.github.dtsstn.health.core;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.file.Files;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,8 +35,14 @@ import org.mockito.Mock;
 import org.mockito.internal.stubbing.answers.AnswersWithDelay;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.google.common.util.concurrent.Uninterruptibles;
+
 import io.github.dtsstn.health.core.HealthResult.ComponentHealthResult;
 import io.github.dtsstn.health.core.HealthResult.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class HealthCheckManagerTest {
@@ -52,6 +77,147 @@ class HealthCheckManagerTest {
 		assertThat(result.getComponents()).isNotEmpty();
 	}
 
+	@Test
+	void testExecuteChecks_Observed() {
+		when(healthCheck.getName()).thenReturn("API");
+
+		final var stoppedContexts = new CopyOnWriteArrayList<Observation.Context>();
+		final var observationRegistry = ObservationRegistry.create();
+		observationRegistry.observationConfig().observationHandler(new ObservationHandler<Observation.Context>() {
+
+			@Override
+			public boolean supportsContext(Observation.Context context) {
+				return true;
+			}
+
+			@Override
+			public void onStop(Observation.Context context) {
+				stoppedContexts.add(context);
+			}
+
+		});
+
+		healthCheckManager.setObservationRegistry(observationRegistry);
+
+		final var healthCheckOptions = ImmutableHealthCheckOptions.builder()
+				.includeDetails(false)
+				.timeoutMillis(3000)
+				.build();
+		healthCheckManager.executeChecks(List.of(healthCheck), healthCheckOptions);
+
+		assertThat(stoppedContexts)
+				.extracting(Observation.Context::getName)
+				.containsExactly(HealthCheckManager.CHECK_OBSERVATION_NAME, HealthCheckManager.CHECKS_OBSERVATION_NAME);
+
+		final var checkContext = stoppedContexts.get(0);
+		assertThat(checkContext.getParentObservation().getContextView()).isSameAs(stoppedContexts.get(1));
+		assertThat(checkContext.getLowCardinalityKeyValue("dts.health.component").getValue()).isEqualTo("API");
+		assertThat(checkContext.getLowCardinalityKeyValue("dts.health.status").getValue()).isEqualTo("HEALTHY");
+		assertThat(checkContext.getLowCardinalityKeyValue("dts.health.timedout").getValue()).isEqualTo("false");
+	}
+
+	@Test
+	void testExecuteChecks_ObservedUntilCheckCompletes() {
+		final var priorities = Map.of("FAST", HealthCheck.Priority.LOW, "SLOW", HealthCheck.Priority.CRITICAL);
+		final var healthChecks = List.of("FAST", "SLOW").stream()
+				.map(name -> (HealthCheck) new HealthCheck() {
+
+					@Override
+					public String getName() {
+						return name;
+					}
+
+					@Override
+					public void execute() {
+						Uninterruptibles.sleepUninterruptibly(Duration.ofMillis(name.equals("FAST") ? 10 : 500));
+					}
+
+					@Override
+					public Priority getPriority() {
+						return priorities.get(name);
+					}
+
+				})
+				.toList();
+
+		final var durationsMillis = new ConcurrentHashMap<String, Long>();
+		final var observationRegistry = ObservationRegistry.create();
+		observationRegistry.observationConfig().observationHandler(new ObservationHandler<Observation.Context>() {
+
+			@Override
+			public boolean supportsContext(Observation.Context context) {
+				return context.getName().equals(HealthCheckManager.CHECK_OBSERVATION_NAME);
+			}
+
+			@Override
+			public void onStart(Observation.Context context) {
+				context.put("startNanos", System.nanoTime());
+			}
+
+			@Override
+			public void onStop(Observation.Context context) {
+				final long startNanos = context.getRequired("startNanos");
+				durationsMillis.put(context.getLowCardinalityKeyValue("dts.health.component").getValue(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+			}
+
+		});
+
+		healthCheckManager.setObservationRegistry(observationRegistry);
+
+		final var healthCheckOptions = ImmutableHealthCheckOptions.builder()
+				.includeDetails(false)
+				.timeoutMillis(3000)
+				.build();
+
+		try (final var healthCheckExecutor = new HealthCheckExecutor(2, 0)) {
+			healthCheckManager.setHealthCheckExecutor(healthCheckExecutor);
+			healthCheckManager.executeChecks(healthChecks, healthCheckOptions);
+		}
+
+		// the fast check is awaited after the slow one, but its span ends when it completes
+		assertThat(durationsMillis).containsOnlyKeys("FAST", "SLOW");
+		assertThat(durationsMillis.get("FAST")).isLessThan(250);
+		assertThat(durationsMillis.get("SLOW")).isGreaterThanOrEqualTo(500);
+	}
+
+	@Test
+	void testExecuteChecks_FlightRecorderEvents() throws Exception {
+		when(healthCheck.getName()).thenReturn("API");
+
+		healthCheckManager.setFlightRecorderEvents(true);
+
+		final var healthCheckOptions = ImmutableHealthCheckOptions.builder()
+				.includeDetails(false)
+				.timeoutMillis(3000)
+				.build();
+
+		final var recordingFile = Files.createTempFile("health", ".jfr");
+
+		try (var recording = new Recording()) {
+			recording.enable("io.github.dtsstn.health.HealthCheck");
+			recording.enable("io.github.dtsstn.health.HealthChecks");
+			recording.start();
+			healthCheckManager.executeChecks(List.of(healthCheck), healthCheckOptions);
+			recording.stop();
+			recording.dump(recordingFile);
+		}
+
+		final var events = RecordingFile.readAllEvents(recordingFile);
+		Files.delete(recordingFile);
+
+		assertThat(events)
+				.extracting(event -> event.getEventType().getName())
+				.containsExactlyInAnyOrder("io.github.dtsstn.health.HealthCheck", "io.github.dtsstn.health.HealthChecks");
+
+		final var checkEvent = events.stream()
+				.filter(event -> event.getEventType().getName().equals("io.github.dtsstn.health.HealthCheck"))
+				.findFirst()
+				.orElseThrow();
+		assertThat(checkEvent.getString("name")).isEqualTo("API");
+		assertThat(checkEvent.getString("status")).isEqualTo("HEALTHY");
+		assertThat(checkEvent.getBoolean("timedOut")).isFalse();
+	}
+
 	@Test
 	void testIsComponentIncluded_IncludeEmptyAndNotInExclude() {
 		when(healthCheck.getName()).thenReturn("component1");
@@ -136,6 +302,38 @@ class HealthCheckManagerTest {
 		assertThat(result.getErrorDetails()).contains("TimeoutException");
 	}
 
+	@Test
+	void testExecuteCheckWithTimeout_ReportsHungThreadStack() {
+		when(healthCheck.getName()).thenReturn("API");
+		when(healthCheck.getMetadata()).thenReturn(Map.of("url", "http://api.example.com"));
+		doAnswer(new AnswersWithDelay(500, null)).when(healthCheck).execute();
+
+		healthCheckManager.setRecordStuckLocations(true);
+
+		final var result = healthCheckManager.executeCheckWithTimeout(healthCheck, 50, true);
+
+		assertThat(result.getStatus()).isEqualTo(ComponentHealthResult.Status.TIMEDOUT);
+		assertThat(result.getStackTrace())
+				.contains("java.lang.Thread.sleep")
+				.contains("HealthCheckManager.executeCheck")
+				.doesNotContain("CompletableFuture.get");
+		assertThat(healthCheckManager.getStuckLocations()).containsKey("API");
+		assertThat(healthCheckManager.getStuckLocations().get("API").values()).containsExactly(1L);
+	}
+
+	@Test
+	void testExecuteCheckWithTimeout_DoesNotSampleStackWithoutDetails() {
+		when(healthCheck.getName()).thenReturn("API");
+		doAnswer(new AnswersWithDelay(200, null)).when(healthCheck).execute();
+
+		healthCheckManager = spy(healthCheckManager);
+
+		final var result = healthCheckManager.executeCheckWithTimeout(healthCheck, 20, false);
+
+		assertThat(result.getStatus()).isEqualTo(ComponentHealthResult.Status.TIMEDOUT);
+		verify(healthCheckManager, never()).sampleStackTrace(any());
+	}
+
 	@Test
 	void testBuildTimedOutResult() {
 		final var healthCheckName = "API";
@@ -179,6 +377,417 @@ class HealthCheckManagerTest {
 		assertThat(result.getErrorDetails()).contains("API execution failed");
 	}
 
+	@Test
+	void testExecuteCheck_TimeoutAwareHealthCheck() {
+		final var timeoutAwareHealthCheck = mock(TimeoutAwareHealthCheck.class);
+		when(timeoutAwareHealthCheck.getName()).thenReturn("API");
+
+		final var result = healthCheckManager.executeCheck(timeoutAwareHealthCheck, 250, false);
+
+		assertThat(result.getStatus()).isEqualTo(ComponentHealthResult.Status.HEALTHY);
+		verify(timeoutAwareHealthCheck).execute(Duration.ofMillis(250));
+		verify(timeoutAwareHealthCheck, never()).execute();
+	}
+
+	@Test
+	void testExecuteComponent_AdaptiveTimeout() {
+		when(healthCheck.getName()).thenReturn("API");
+		when(healthCheck.getMetadata()).thenReturn(Map.of("url", "http://api.example.com"));
+
+		healthCheckManager.setAdaptiveTimeoutOptions(ImmutableAdaptiveTimeoutOptions.builder()
+				.multiplier(3.0)
+				.minTimeoutMillis(100)
+				.maxTimeoutMillis(1000)
+				.minSamples(5)
+				.build());
+
+		for (int i = 0; i < 5; i++) {
+			assertThat(healthCheckManager.executeComponent(healthCheck, 5000, true).getMetadata())
+					.containsEntry("adaptiveTimeoutMs", "1000");
+		}
+
+		final var result = healthCheckManager.executeComponent(healthCheck, 5000, true);
+
+		assertThat(result.getStatus()).isEqualTo(ComponentHealthResult.Status.HEALTHY);
+		assertThat(result.getMetadata())
+				.containsEntry("url", "http://api.example.com")
+				.containsEntry("adaptiveTimeoutMs", "100")
+				.containsKey("latencyP99Ms");
+	}
+
+	@Test
+	void testAdaptiveTimeoutMillis_NeverExceedsRequestTimeout() {
+		final var latencyEstimator = new LatencyEstimator();
+		for (int i = 0; i < 10; i++) { latencyEstimator.record(400); }
+
+		final var adaptiveTimeoutOptions = ImmutableAdaptiveTimeoutOptions.builder()
+				.multiplier(3.0)
+				.minTimeoutMillis(100)
+				.maxTimeoutMillis(10000)
+				.minSamples(5)
+				.build();
+
+		assertThat(healthCheckManager.adaptiveTimeoutMillis(latencyEstimator, adaptiveTimeoutOptions, 5000)).isEqualTo(1200);
+		assertThat(healthCheckManager.adaptiveTimeoutMillis(latencyEstimator, adaptiveTimeoutOptions, 1000)).isEqualTo(1000);
+	}
+
+	@Test
+	void testExecuteComponent_Hedged() throws InterruptedException {
+		when(healthCheck.getName()).thenReturn("API");
+
+		final var meterRegistry = new SimpleMeterRegistry();
+		healthCheckManager.setHedgedComponents(List.of("API"));
+		healthCheckManager.setHedgingMinSamples(5);
+		healthCheckManager.setMeterRegistry(meterRegistry);
+
+		// every attempt takes 100 ms, except the sixth, which hangs well past the observed p95 until it is interrupted
+		final var attempts = new AtomicInteger();
+		final var losingAttemptInterrupted = new CountDownLatch(1);
+
+		doAnswer(invocation -> {
+			try {
+				Thread.sleep(attempts.incrementAndGet() == 6 ? 3000 : 100);
+			}
+			catch (InterruptedException e) {
+				losingAttemptInterrupted.countDown();
+				Thread.currentThread().interrupt();
+			}
+			return null;
+		}).when(healthCheck).execute();
+
+		for (int i = 0; i < 5; i++) { healthCheckManager.executeComponent(healthCheck, 5000, false); }
+		assertThat(healthCheckManager.getHedgeCount()).isZero();
+
+		final var result = healthCheckManager.executeComponent(healthCheck, 5000, false);
+
+		assertThat(result.getStatus()).isEqualTo(ComponentHealthResult.Status.HEALTHY);
+
+		// measured from the first attempt: the hedge delay (~100 ms) plus the hedged attempt (~100 ms)
+		assertThat(result.getResponseTimeMs()).isBetween(190L, 2999L);
+		assertThat(healthCheckManager.getHedgeCount()).isOne();
+		assertThat(meterRegistry.get(HealthCheckManager.HEDGES_METER_NAME).tag("component", "API").counter().count()).isEqualTo(1.0);
+		assertThat(losingAttemptInterrupted.await(1, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void testForget_UnregisteredComponentsAreDiscarded() {
+		healthCheckManager.setAdaptiveTimeoutOptions(ImmutableAdaptiveTimeoutOptions.builder()
+				.multiplier(3.0)
+				.minTimeoutMillis(100)
+				.maxTimeoutMillis(1000)
+				.minSamples(5)
+				.build());
+		healthCheckManager.setMaxComponentsPerRequest(10);
+		healthCheckManager.setCacheMetadata(true);
+		healthCheckManager.setStatusListeners(List.of(new HealthStatusListener() {}));
+
+		final var healthCheckRegistry = new HealthCheckRegistry();
+		healthCheckRegistry.addUnregistrationListener(unregistered -> healthCheckManager.forget(unregistered.getName()));
+		IntStream.range(0, 50).forEach(i -> healthCheckRegistry.register(HealthCheckRegistryTest.healthCheck("tenant" + i)));
+
+		final var healthCheckOptions = ImmutableHealthCheckOptions.builder()
+				.includeDetails(true)
+				.timeoutMillis(3000)
+				.build();
+
+		for (int i = 0; i < 5; i++) { healthCheckManager.executeChecks(healthCheckRegistry.getHealthChecks(), healthCheckOptions); }
+		assertThat(healthCheckManager.getTrackedComponents()).hasSize(50);
+
+		IntStream.range(0, 40).forEach(i -> healthCheckRegistry.unregister("tenant" + i));
+
+		assertThat(healthCheckManager.getTrackedComponents()).hasSize(10).allMatch(name -> Integer.parseInt(name.substring(6)) >= 40);
+	}
+
+	@Test
+	void testHedgeDelayMillis() {
+		final var latencyEstimator = new LatencyEstimator();
+		for (int i = 0; i < 10; i++) { latencyEstimator.record(400); }
+
+		healthCheckManager.setHedgingMinSamples(20);
+		assertThat(healthCheckManager.hedgeDelayMillis(latencyEstimator, 5000)).isZero();
+
+		healthCheckManager.setHedgingMinSamples(5);
+		assertThat(healthCheckManager.hedgeDelayMillis(latencyEstimator, 5000)).isEqualTo(400);
+		assertThat(healthCheckManager.hedgeDelayMillis(latencyEstimator, 300)).isZero();
+	}
+
+	@Test
+	void testExecuteChecks_StatusListenersNotifiedOfTransitionsOnly() {
+		when(healthCheck.getName()).thenReturn("API");
+
+		final var transitions = new CopyOnWriteArrayList<String>();
+		healthCheckManager.setStatusListenerExecutor(Runnable::run);
+		healthCheckManager.setStatusListeners(List.of(new HealthStatusListener() {
+
+			@Override
+			public void onComponentStatusChanged(ComponentHealthResult.Status previousStatus, ComponentHealthResult componentHealthResult) {
+				transitions.add(componentHealthResult.getName() + ":" + previousStatus + "->" + componentHealthResult.getStatus());
+			}
+
+			@Override
+			public void onStatusChanged(Status previousStatus, HealthResult healthResult) {
+				transitions.add(previousStatus + "->" + healthResult.getStatus());
+			}
+
+		}));
+
+		final var healthCheckOptions = ImmutableHealthCheckOptions.builder()
+				.includeDetails(false)
+				.timeoutMillis(3000)
+				.build();
+
+		healthCheckManager.executeChecks(List.of(healthCheck), healthCheckOptions);
+		healthCheckManager.executeChecks(List.of(healthCheck), healthCheckOptions);
+
+		doThrow(new RuntimeException("Health check failed")).when(healthCheck).execute();
+		healthCheckManager.executeChecks(List.of(healthCheck), healthCheckOptions);
+		healthCheckManager.executeChecks(List.of(healthCheck), healthCheckOptions);
+
+		assertThat(transitions).containsExactly(
+				"API:null->HEALTHY", "null->HEALTHY",
+				"API:HEALTHY->UNHEALTHY", "HEALTHY->UNHEALTHY");
+	}
+
+	@Test
+	void testExecuteChecks_StatusListenersNotifiedAfterFailedNotification() {
+		when(healthCheck.getName()).thenReturn("API");
+
+		// the first notification is rejected, and the second one fails with an error
+		final var dispatches = new AtomicInteger();
+		healthCheckManager.setStatusListenerExecutor(command -> {
+			if (dispatches.getAndIncrement() == 0) { throw new RejectedExecutionException("Executor closed"); }
+			command.run();
+		});
+
+		final var transitions = new CopyOnWriteArrayList<String>();
+		healthCheckManager.setStatusListeners(List.of(new HealthStatusListener() {
+
+			@Override
+			public void onComponentStatusChanged(ComponentHealthResult.Status previousStatus, ComponentHealthResult componentHealthResult) {
+				transitions.add(componentHealthResult.getName() + ":" + previousStatus + "->" + componentHealthResult.getStatus());
+			}
+
+			@Override
+			public void onStatusChanged(Status previousStatus, HealthResult healthResult) {
+				if (previousStatus == null) { throw new AssertionError("Listener failed"); }
+				transitions.add(previousStatus + "->" + healthResult.getStatus());
+			}
+
+		}));
+
+		final var healthCheckOptions = ImmutableHealthCheckOptions.builder()
+				.includeDetails(false)
+				.timeoutMillis(3000)
+				.build();
+
+		healthCheckManager.executeChecks(List.of(healthCheck), healthCheckOptions);
+
+		doThrow(new RuntimeException("Health check failed")).when(healthCheck).execute();
+		healthCheckManager.executeChecks(List.of(healthCheck), healthCheckOptions);
+
+		assertThat(transitions).containsExactly("API:HEALTHY->UNHEALTHY", "HEALTHY->UNHEALTHY");
+	}
+
+	@Test
+	void testExecuteChecks_MaxComponentsPerRequest() {
+		final var executions = new CopyOnWriteArrayList<String>();
+		final var healthChecks = IntStream.range(0, 5)
+				.mapToObj(i -> (HealthCheck) new HealthCheck() {
+
+					@Override
+					public String getName() {
+						return "component" + i;
+					}
+
+					@Override
+					public void execute() {
+						executions.add(getName());
+					}
+
+				})
+				.toList();
+
+		healthCheckManager.setMaxComponentsPerRequest(2);
+
+		final var healthCheckOptions = ImmutableHealthCheckOptions.builder()
+				.includeDetails(false)
+				.timeoutMillis(3000)
+				.build();
+
+		final var firstResult = healthCheckManager.executeChecks(healthChecks, healthCheckOptions);
+		assertThat(firstResult.getComponents()).hasSize(2).allMatch(component -> component.getAgeMs() == null);
+
+		healthCheckManager.executeChecks(healthChecks, healthCheckOptions);
+		final var thirdResult = healthCheckManager.executeChecks(healthChecks, healthCheckOptions);
+
+		// every component is executed within ceil(5 / 2) = 3 requests
+		assertThat(executions).hasSize(6).containsAll(healthChecks.stream().map(HealthCheck::getName).toList());
+		assertThat(thirdResult.getComponents()).hasSize(5);
+		assertThat(thirdResult.getComponents()).filteredOn(component -> component.getAgeMs() != null).hasSize(3);
+		assertThat(thirdResult.getStatus()).isEqualTo(Status.HEALTHY);
+	}
+
+	@Test
+	void testExecuteChecks_MaxComponentsPerRequestConcurrently() throws Exception {
+		final var executions = new ConcurrentHashMap<String, AtomicInteger>();
+		final var healthChecks = IntStream.range(0, 50)
+				.mapToObj(i -> (HealthCheck) new HealthCheck() {
+
+					@Override
+					public String getName() {
+						return "component" + i;
+					}
+
+					@Override
+					public void execute() {
+						executions.computeIfAbsent(getName(), name -> new AtomicInteger()).incrementAndGet();
+					}
+
+				})
+				.toList();
+
+		healthCheckManager.setMaxComponentsPerRequest(5);
+
+		final var healthCheckOptions = ImmutableHealthCheckOptions.builder()
+				.includeDetails(false)
+				.timeoutMillis(3000)
+				.build();
+
+		// 10 concurrent requests of 5 components each: every component is claimed by exactly one of them
+		final var started = new CountDownLatch(1);
+		final var requestExecutor = Executors.newFixedThreadPool(10);
+
+		try {
+			final var results = IntStream.range(0, 10)
+					.mapToObj(i -> requestExecutor.submit(() -> {
+						started.await();
+						return healthCheckManager.executeChecks(healthChecks, healthCheckOptions);
+					}))
+					.toList();
+
+			started.countDown();
+
+			for (final var result : results) {
+				assertThat(result.get(5, TimeUnit.SECONDS).getComponents()).filteredOn(component -> component.getAgeMs() == null).hasSize(5);
+			}
+		}
+		finally {
+			requestExecutor.shutdownNow();
+		}
+
+		assertThat(executions).hasSize(50).allSatisfy((name, count) -> assertThat(count).hasValue(1));
+	}
+
+	@Test
+	void testExecuteChecks_SubmittedByPriority() {
+		final var priorities = List.of(HealthCheck.Priority.LOW, HealthCheck.Priority.LOW, HealthCheck.Priority.NORMAL, HealthCheck.Priority.CRITICAL);
+		final var healthChecks = IntStream.range(0, priorities.size())
+				.mapToObj(i -> (HealthCheck) new HealthCheck() {
+
+					@Override
+					public String getName() {
+						return priorities.get(i).name() + i;
+					}
+
+					@Override
+					public void execute() {
+						Uninterruptibles.sleepUninterruptibly(Duration.ofMillis(400));
+					}
+
+					@Override
+					public Priority getPriority() {
+						return priorities.get(i);
+					}
+
+				})
+				.toList();
+
+		final var healthCheckOptions = ImmutableHealthCheckOptions.builder()
+				.includeDetails(false)
+				.timeoutMillis(600)
+				.build();
+
+		// a single thread: only the check submitted first completes within the timeout
+		try (final var healthCheckExecutor = new HealthCheckExecutor(1, 0)) {
+			healthCheckManager.setHealthCheckExecutor(healthCheckExecutor);
+
+			final var result = healthCheckManager.executeChecks(healthChecks, healthCheckOptions);
+
+			assertThat(result.getComponents()).extracting(ComponentHealthResult::getName).containsExactly("LOW0", "LOW1", "NORMAL2", "CRITICAL3");
+			assertThat(result.getComponents()).extracting(ComponentHealthResult::getStatus)
+					.containsExactly(ComponentHealthResult.Status.TIMEDOUT, ComponentHealthResult.Status.TIMEDOUT, ComponentHealthResult.Status.TIMEDOUT, ComponentHealthResult.Status.HEALTHY);
+		}
+	}
+
+	@Test
+	void testExecuteChecks_ClosedExecutor() {
+		when(healthCheck.getName()).thenReturn("API");
+
+		final var healthCheckExecutor = new HealthCheckExecutor(1, 1);
+		healthCheckExecutor.close();
+		healthCheckManager.setHealthCheckExecutor(healthCheckExecutor);
+
+		final var healthCheckOptions = ImmutableHealthCheckOptions.builder()
+				.includeDetails(true)
+				.timeoutMillis(1000)
+				.build();
+
+		final var result = healthCheckManager.executeChecks(List.of(healthCheck), healthCheckOptions);
+
+		assertThat(result.getStatus()).isEqualTo(Status.UNHEALTHY);
+		assertThat(result.getComponents()).singleElement().satisfies(component -> {
+			assertThat(component.getStatus()).isEqualTo(ComponentHealthResult.Status.TIMEDOUT);
+			assertThat(component.getErrorDetails()).contains("RejectedExecutionException");
+		});
+	}
+
+	@Test
+	void testExecuteCheck_CachedMetadata() {
+		when(healthCheck.getName()).thenReturn("API");
+		when(healthCheck.getMetadata()).thenReturn(Map.of("url", "http://api.example.com"));
+
+		healthCheckManager.setCacheMetadata(true);
+
+		assertThat(healthCheckManager.executeCheck(healthCheck, true).getMetadata()).isEqualTo(Map.of("url", "http://api.example.com"));
+		assertThat(healthCheckManager.executeCheck(healthCheck, true).getMetadata()).isEqualTo(Map.of("url", "http://api.example.com"));
+		verify(healthCheck, times(1)).getMetadata();
+
+		healthCheckManager.invalidateMetadata("API");
+
+		healthCheckManager.executeCheck(healthCheck, true);
+		verify(healthCheck, times(2)).getMetadata();
+	}
+
+	@Test
+	void testExecuteCheck_CachedMetadataOfReplacedHealthCheck() {
+		final var replacement = mock(HealthCheck.class);
+
+		when(healthCheck.getName()).thenReturn("API");
+		when(healthCheck.getMetadata()).thenReturn(Map.of("url", "http://api.example.com"));
+		when(replacement.getName()).thenReturn("API");
+		when(replacement.getMetadata()).thenReturn(Map.of("url", "http://api-v2.example.com"));
+
+		healthCheckManager.setCacheMetadata(true);
+
+		assertThat(healthCheckManager.executeCheck(healthCheck, true).getMetadata()).isEqualTo(Map.of("url", "http://api.example.com"));
+		assertThat(healthCheckManager.executeCheck(replacement, true).getMetadata()).isEqualTo(Map.of("url", "http://api-v2.example.com"));
+	}
+
+	@Test
+	void testExecuteCheck_CachedMetadataRefreshed() throws Exception {
+		when(healthCheck.getName()).thenReturn("API");
+		when(healthCheck.getMetadata()).thenReturn(Map.of("url", "http://api.example.com"));
+
+		healthCheckManager.setCacheMetadata(true);
+		healthCheckManager.setMetadataRefreshInterval(Duration.ofMillis(10));
+
+		healthCheckManager.executeCheck(healthCheck, true);
+		Thread.sleep(20);
+		healthCheckManager.executeCheck(healthCheck, true);
+
+		verify(healthCheck, times(2)).getMetadata();
+	}
+
 	@Test
 	void testAggregateStatus_AllStatusesHealthy() {
 		final var allStatuses = List.of(ComponentHealthResult.Status.HEALTHY, ComponentHealthResult.Status.HEALTHY, ComponentHealthResult.Status.HEALTHY);
@@ -0,0 +1,116 @@
+package io.github.dtsstn.health.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HealthCheckRegistryTest {
+
+	HealthCheckRegistry healthCheckRegistry;
+
+	@BeforeEach
+	void beforeEach() {
+		this.healthCheckRegistry = new HealthCheckRegistry(List.of(healthCheck("api"), healthCheck("database")));
+	}
+
+	@Test
+	void testRegister_DuplicateName() {
+		assertThatIllegalStateException()
+				.isThrownBy(() -> healthCheckRegistry.register(healthCheck("api")))
+				.withMessageContaining("[api]");
+	}
+
+	@Test
+	void testConstructor_DuplicateAndEmptyNamesAreKept() {
+		final var api = healthCheck("api");
+		final var otherApi = healthCheck("api");
+		final var healthCheckRegistry = new HealthCheckRegistry(List.of(api, otherApi, healthCheck("")));
+
+		assertThat(healthCheckRegistry.size()).isEqualTo(3);
+		assertThat(healthCheckRegistry.getHealthChecks()).containsExactlyInAnyOrder(api, otherApi, healthCheckRegistry.get(""));
+		assertThat(healthCheckRegistry.getHealthChecks(List.of("api"))).containsExactly(api, otherApi);
+		assertThat(healthCheckRegistry.get("api")).isSameAs(api);
+
+		// runtime registration still requires unique names
+		assertThatIllegalStateException().isThrownBy(() -> healthCheckRegistry.register(healthCheck("api")));
+
+		healthCheckRegistry.unregister("api");
+		assertThat(healthCheckRegistry.size()).isOne();
+	}
+
+	@Test
+	void testUnregister_NotifiesListeners() {
+		final var unregistered = new ArrayList<HealthCheck>();
+		healthCheckRegistry.addUnregistrationListener(unregistered::add);
+
+		final var database = healthCheckRegistry.get("database");
+		healthCheckRegistry.unregister("database");
+		healthCheckRegistry.unregister("unknown");
+
+		assertThat(unregistered).containsExactly(database);
+	}
+
+	@Test
+	void testUnregister() {
+		final var database = healthCheckRegistry.get("database");
+
+		assertThat(healthCheckRegistry.unregister("database")).isSameAs(database);
+		assertThat(healthCheckRegistry.unregister("database")).isNull();
+		assertThat(healthCheckRegistry.getHealthChecks()).extracting(HealthCheck::getName).containsExactly("api");
+	}
+
+	@Test
+	void testGetHealthChecks_ByName() {
+		assertThat(healthCheckRegistry.getHealthChecks(List.of("database", "unknown", "database")))
+				.extracting(HealthCheck::getName)
+				.containsExactly("database");
+		assertThat(healthCheckRegistry.getHealthChecks(List.of())).hasSize(2);
+	}
+
+	@Test
+	void testGetHealthChecks_IsLiveView() {
+		final var healthChecks = healthCheckRegistry.getHealthChecks();
+
+		healthCheckRegistry.register(healthCheck("cache"));
+
+		assertThat(healthChecks).extracting(HealthCheck::getName).containsExactlyInAnyOrder("api", "database", "cache");
+	}
+
+	@Test
+	void testConcurrentRegistrationWhileIterating() {
+		final var registrations = CompletableFuture.runAsync(() -> IntStream.range(0, 10_000)
+				.forEach(i -> healthCheckRegistry.register(healthCheck("tenant" + i))));
+
+		while (!registrations.isDone()) {
+			// iteration must never fail while the registry is being modified
+			assertThat(healthCheckRegistry.getHealthChecks().stream().count()).isGreaterThanOrEqualTo(2);
+		}
+
+		registrations.join();
+		IntStream.range(0, 10_000).forEach(i -> healthCheckRegistry.unregister("tenant" + i));
+
+		assertThat(healthCheckRegistry.size()).isEqualTo(2);
+	}
+
+	static HealthCheck healthCheck(String name) {
+		return new HealthCheck() {
+
+			@Override
+			public String getName() {
+				return name;
+			}
+
+			@Override
+			public void execute() {}
+
+		};
+	}
+
+}
@@ -0,0 +1,142 @@
+package io.github.dtsstn.health.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.dtsstn.health.core.HealthResult.ComponentHealthResult.Status;
+
+class HealthJournalTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void testAppend_WrapsAround() {
+		try (var healthJournal = HealthJournal.open(tempDir.resolve("health.journal"), 3)) {
+			for (int i = 0; i < 5; i++) {
+				healthJournal.append("component" + i, Status.HEALTHY, i, 1000L * i);
+			}
+
+			assertThat(healthJournal.getEntries())
+					.extracting(HealthJournalEntry::getSequence, HealthJournalEntry::getName, HealthJournalEntry::getResponseTimeMs)
+					.containsExactly(
+							tuple(2L, "component2", 2L),
+							tuple(3L, "component3", 3L),
+							tuple(4L, "component4", 4L));
+		}
+	}
+
+	@Test
+	void testGetEntries_ConcurrentAppends() throws Exception {
+		try (var healthJournal = HealthJournal.open(tempDir.resolve("health.journal"), 16)) {
+			final var appender = Thread.ofPlatform().start(() -> {
+				for (int i = 0; i < 100_000; i++) {
+					healthJournal.append("component" + i, Status.HEALTHY, i, i);
+				}
+			});
+
+			// every entry read while appends overwrite the ring is one whole record
+			while (appender.isAlive()) {
+				assertThat(healthJournal.getEntries()).allSatisfy(entry -> {
+					assertThat(entry.getName()).isEqualTo("component" + entry.getSequence());
+					assertThat(entry.getResponseTimeMs()).isEqualTo(entry.getSequence());
+				});
+			}
+
+			appender.join();
+		}
+	}
+
+	@Test
+	void testOpen_SurvivesReopen() {
+		final var path = tempDir.resolve("health.journal");
+
+		try (var healthJournal = HealthJournal.open(path, 10)) {
+			healthJournal.append("database", Status.HEALTHY, 5, 1000);
+			healthJournal.append("database", Status.TIMEDOUT, 3000, 2000);
+		}
+
+		assertThat(HealthJournal.read(path))
+				.extracting(HealthJournalEntry::getName, HealthJournalEntry::getStatus)
+				.containsExactly(tuple("database", Status.HEALTHY), tuple("database", Status.TIMEDOUT));
+
+		try (var healthJournal = HealthJournal.open(path, 10)) {
+			healthJournal.append("database", Status.UNHEALTHY, 7, 3000);
+
+			assertThat(healthJournal.getEntries())
+					.extracting(HealthJournalEntry::getSequence)
+					.containsExactly(0L, 1L, 2L);
+		}
+	}
+
+	@Test
+	void testOpen_AlreadyInUse() {
+		final var path = tempDir.resolve("health.journal");
+
+		try (var healthJournal = HealthJournal.open(path, 10)) {
+			assertThatIllegalStateException().isThrownBy(() -> HealthJournal.open(path, 10))
+					.withMessageContaining("already in use");
+		}
+
+		// released on close
+		try (var healthJournal = HealthJournal.open(path, 10)) {
+			assertThat(healthJournal.getCapacity()).isEqualTo(10);
+		}
+	}
+
+	@Test
+	void testOpen_DifferentCapacityReplacesJournal() {
+		final var path = tempDir.resolve("health.journal");
+
+		try (var healthJournal = HealthJournal.open(path, 10)) {
+			healthJournal.append("database", Status.HEALTHY, 5, 1000);
+		}
+
+		try (var healthJournal = HealthJournal.open(path, 20)) {
+			assertThat(healthJournal.getEntries()).isEmpty();
+		}
+	}
+
+	@Test
+	void testRead_SkipsTornRecord() throws Exception {
+		final var path = tempDir.resolve("health.journal");
+
+		try (var healthJournal = HealthJournal.open(path, 10)) {
+			healthJournal.append("api", Status.HEALTHY, 5, 1000);
+			healthJournal.append("database", Status.HEALTHY, 5, 1000);
+		}
+
+		// simulate a crash before the second record was committed
+		try (var file = new RandomAccessFile(path.toFile(), "rw")) {
+			file.seek(HealthJournal.HEADER_SIZE + HealthJournal.RECORD_SIZE);
+			file.writeLong(0);
+		}
+
+		assertThat(HealthJournal.read(path)).extracting(HealthJournalEntry::getName).containsExactly("api");
+	}
+
+	@Test
+	void testAppend_TruncatesAndReplacesNonAsciiNames() {
+		try (var healthJournal = HealthJournal.open(tempDir.resolve("health.journal"), 1)) {
+			healthJournal.append("é".repeat(50), Status.HEALTHY, 1, 1000);
+
+			assertThat(healthJournal.getEntries().get(0).getName()).isEqualTo("?".repeat(HealthJournal.MAX_NAME_LENGTH));
+		}
+	}
+
+	@Test
+	void testRead_NotAJournal() throws Exception {
+		final var path = Files.writeString(tempDir.resolve("other.txt"), "not a journal, but long enough to have a header");
+
+		assertThat(HealthJournal.read(path)).isEmpty();
+	}
+
+}
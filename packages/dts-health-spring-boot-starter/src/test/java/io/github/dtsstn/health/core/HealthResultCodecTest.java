@@ -0,0 +1,130 @@
+package io.github.dtsstn.health.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import io.github.dtsstn.health.core.HealthResult.ComponentHealthResult;
+import io.github.dtsstn.health.core.HealthResult.Status;
+
+class HealthResultCodecTest {
+
+	HealthResultCodec healthResultCodec;
+
+	HealthResult healthResult;
+
+	@BeforeEach
+	void beforeEach() {
+		this.healthResultCodec = new HealthResultCodec();
+		this.healthResult = ImmutableHealthResult.builder()
+				.status(Status.UNHEALTHY)
+				.responseTimeMs(42L)
+				.version("0.0.0")
+				.buildId("0.0.0-00000000-0000")
+				.addComponents(ImmutableComponentHealthResult.builder()
+						.name("API")
+						.status(ComponentHealthResult.Status.UNHEALTHY)
+						.responseTimeMs(40L)
+						.metadata(Map.of("url", "http://api.example.com"))
+						.errorDetails("java.lang.RuntimeException: API execution failed")
+						.build())
+				.addComponents(ImmutableComponentHealthResult.builder()
+						.name("DB")
+						.status(ComponentHealthResult.Status.HEALTHY)
+						.responseTimeMs(2L)
+						.build())
+				.build();
+	}
+
+	@Test
+	void testDecode_RoundTrip() {
+		final var bytes = healthResultCodec.encode(healthResult);
+
+		assertThat(healthResultCodec.decode(bytes)).isEqualTo(healthResult);
+	}
+
+	@Test
+	void testDecode_HeapBufferRegion() {
+		final var bytes = healthResultCodec.encode(healthResult);
+		final var buffer = ByteBuffer.allocate(bytes.length + 8);
+		buffer.position(4).put(bytes).flip().position(4);
+
+		assertThat(healthResultCodec.decode(buffer.slice())).isEqualTo(healthResult);
+	}
+
+	@Test
+	void testDecode_DirectBuffer() {
+		final var bytes = healthResultCodec.encode(healthResult);
+		final var buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+
+		assertThat(healthResultCodec.decode(buffer)).isEqualTo(healthResult);
+		assertThat(buffer.remaining()).isEqualTo(bytes.length);
+	}
+
+	@Test
+	void testEncode_SmallerThanJson() throws Exception {
+		final var json = JsonMapper.builder()
+				.serializationInclusion(Include.NON_NULL)
+				.build()
+				.writeValueAsBytes(healthResult);
+
+		assertThat(healthResultCodec.encode(healthResult)).hasSizeLessThan(json.length);
+	}
+
+	@Test
+	void testEncode_RoundTripTimeComparedToJson() throws Exception {
+		// configured like the codec's CBOR mapper, so that only the format differs
+		final var jsonMapper = JsonMapper.builder()
+				.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+				.disable(MapperFeature.ALLOW_FINAL_FIELDS_AS_MUTATORS, MapperFeature.USE_GETTERS_AS_SETTERS)
+				.serializationInclusion(Include.NON_NULL)
+				.build();
+		final var jsonReader = jsonMapper.readerFor(ImmutableHealthResult.class);
+		final var jsonWriter = jsonMapper.writer();
+
+		final var cborNanos = measureRoundTripNanos(() -> healthResultCodec.decode(healthResultCodec.encode(healthResult)));
+		final var jsonNanos = measureRoundTripNanos(() -> jsonReader.readValue(jsonWriter.writeValueAsBytes(healthResult)));
+
+		System.out.printf("HealthResultCodec round trip: cbor=%dns json=%dns%n", cborNanos, jsonNanos);
+
+		// the smaller encoding must not cost a slower round trip; the bound is loose so that a noisy machine does not fail the build
+		assertThat(cborNanos).isLessThan(2 * jsonNanos);
+	}
+
+	/**
+	 * Returns the median time of a round trip, measured in batches after a warm-up.
+	 */
+	static long measureRoundTripNanos(Callable<HealthResult> roundTrip) throws Exception {
+		for (int i = 0; i < 20_000; i++) {
+			assertThat(roundTrip.call()).isNotNull();
+		}
+
+		final var batchNanos = new long[21];
+
+		for (int batch = 0; batch < batchNanos.length; batch++) {
+			final var startNanos = System.nanoTime();
+
+			for (int i = 0; i < 1_000; i++) {
+				roundTrip.call();
+			}
+
+			batchNanos[batch] = (System.nanoTime() - startNanos) / 1_000;
+		}
+
+		Arrays.sort(batchNanos);
+
+		return batchNanos[batchNanos.length / 2];
+	}
+
+}
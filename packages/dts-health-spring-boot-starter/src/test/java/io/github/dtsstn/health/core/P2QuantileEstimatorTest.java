@@ -0,0 +1,48 @@
+package io.github.dtsstn.health.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class P2QuantileEstimatorTest {
+
+	@Test
+	void testGetQuantile_NoObservations() {
+		assertThat(new P2QuantileEstimator(0.99).getQuantile()).isNaN();
+	}
+
+	@Test
+	void testGetQuantile_FewObservations() {
+		final var p2QuantileEstimator = new P2QuantileEstimator(0.5);
+		p2QuantileEstimator.add(3);
+		p2QuantileEstimator.add(1);
+		p2QuantileEstimator.add(2);
+
+		assertThat(p2QuantileEstimator.getQuantile()).isEqualTo(2);
+	}
+
+	@Test
+	void testGetQuantile_UniformDistribution() {
+		final var values = IntStream.rangeClosed(1, 10000).boxed().toList();
+		final var shuffled = new ArrayList<>(values);
+		Collections.shuffle(shuffled, new Random(42));
+
+		final var p95 = new P2QuantileEstimator(0.95);
+		final var p99 = new P2QuantileEstimator(0.99);
+		shuffled.forEach(value -> {
+			p95.add(value);
+			p99.add(value);
+		});
+
+		assertThat(p95.getCount()).isEqualTo(10000);
+		assertThat(p95.getQuantile()).isCloseTo(9500, within(200.0));
+		assertThat(p99.getQuantile()).isCloseTo(9900, within(200.0));
+	}
+
+}
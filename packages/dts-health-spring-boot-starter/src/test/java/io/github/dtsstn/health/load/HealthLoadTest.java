@@ -0,0 +1,247 @@
+package io.github.dtsstn.health.load;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.boot.actuate.endpoint.SecurityContext;
+
+import io.github.dtsstn.health.actuate.DtsHealthEndpoint;
+import io.github.dtsstn.health.actuate.DtsHealthProperties;
+import io.github.dtsstn.health.actuate.HealthResultFormat;
+import io.github.dtsstn.health.checks.HttpHealthCheck;
+import io.github.dtsstn.health.core.HealthCheck;
+import io.github.dtsstn.health.core.HealthCheckExecutor;
+import io.github.dtsstn.health.core.HealthCheckManager;
+import io.github.dtsstn.health.core.HealthCheckRegistry;
+import io.github.dtsstn.health.load.StubDependencyServer.FaultProfile;
+
+/**
+ * Drives {@link DtsHealthEndpoint} at a target request rate against stand-in dependencies with heavy-tailed latency,
+ * failures and hangs, and reports the endpoint's latency, the threads it needed and the work left behind, for each
+ * execution strategy.
+ *
+ * <p>Disabled by default. Run with:</p>
+ *
+ * <pre>
+ * mvn test -Dtest=HealthLoadTest -Ddts-health.load-test=true [-Ddts-health.load-test.rate=200] [-Ddts-health.load-test.duration-seconds=10] [-Ddts-health.load-test.timeout-millis=1000] [-Ddts-health.load-test.dependencies=20]
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "dts-health.load-test", matches = "true")
+class HealthLoadTest {
+
+	static final int RATE = Integer.getInteger("dts-health.load-test.rate", 200);
+
+	static final int DURATION_SECONDS = Integer.getInteger("dts-health.load-test.duration-seconds", 10);
+
+	static final long TIMEOUT_MILLIS = Long.getLong("dts-health.load-test.timeout-millis", 1000L);
+
+	static final int DEPENDENCIES = Integer.getInteger("dts-health.load-test.dependencies", 20);
+
+	enum Strategy {
+
+		COMMON_POOL,
+
+		PRIORITY_EXECUTOR,
+
+		HEDGED,
+
+		SAMPLED;
+
+		/**
+		 * Configures a manager for this strategy.
+		 *
+		 * @return the resources to release once the load has been driven
+		 */
+		AutoCloseable configure(HealthCheckManager healthCheckManager, List<String> componentNames) {
+			switch (this) {
+				case PRIORITY_EXECUTOR -> {
+					final var healthCheckExecutor = new HealthCheckExecutor(64, 4);
+					healthCheckManager.setHealthCheckExecutor(healthCheckExecutor);
+					return healthCheckExecutor;
+				}
+				case HEDGED -> healthCheckManager.setHedgedComponents(componentNames);
+				case SAMPLED -> healthCheckManager.setMaxComponentsPerRequest(Math.max(1, componentNames.size() / 4));
+				case COMMON_POOL -> {}
+			}
+
+			return () -> {};
+		}
+
+	}
+
+	@ParameterizedTest
+	@EnumSource(Strategy.class)
+	void testLoad(Strategy strategy) throws Exception {
+		final var stubDependencyServers = startStubDependencyServers();
+
+		try {
+			final var healthCheckRegistry = new HealthCheckRegistry();
+
+			for (int i = 0; i < stubDependencyServers.size(); i++) {
+				healthCheckRegistry.register(new HttpHealthCheck("dependency" + i, stubDependencyServers.get(i).getUri(), Duration.ofMillis(TIMEOUT_MILLIS)));
+			}
+
+			final var componentNames = healthCheckRegistry.getHealthChecks().stream().map(HealthCheck::getName).toList();
+			final var taskCounter = new TaskCounter();
+
+			final var healthCheckManager = new HealthCheckManager() {
+
+				@Override
+				protected Executor executorFor(HealthCheck healthCheck) {
+					return taskCounter.counting(super.executorFor(healthCheck));
+				}
+
+			};
+
+			final var resources = strategy.configure(healthCheckManager, componentNames);
+
+			final var dtsHealthProperties = new DtsHealthProperties();
+			dtsHealthProperties.setDefaultTimeoutMillis(TIMEOUT_MILLIS);
+
+			final var dtsHealthEndpoint = new DtsHealthEndpoint(dtsHealthProperties, healthCheckManager, healthCheckRegistry);
+
+			final var report = drive(dtsHealthEndpoint, stubDependencyServers, taskCounter, resources);
+
+			System.out.printf("%-18s requests=%d failed=%d p50=%dms p99=%dms max=%dms peakThreads=%d leakedThreads=%d leakedRunningTasks=%d leakedQueuedTasks=%d dependencyInFlight=%d%n",
+					strategy, report.requests(), report.failed(), report.p50Millis(), report.p99Millis(), report.maxMillis(),
+					report.peakThreads(), report.leakedThreads(), report.leakedRunningTasks(), report.leakedQueuedTasks(), report.dependencyInFlight());
+
+			assertThat(report.failed()).as("requests that threw instead of returning a health result").isZero();
+		}
+		finally {
+			stubDependencyServers.forEach(StubDependencyServer::close);
+		}
+	}
+
+	record Report(int requests, int failed, long p50Millis, long p99Millis, long maxMillis, int peakThreads, int leakedThreads,
+			int leakedRunningTasks, int leakedQueuedTasks, int dependencyInFlight) {}
+
+	/**
+	 * Counts the tasks the manager submits to its executor (the common pool or the {@link HealthCheckExecutor}),
+	 * including hedged attempts, that are still queued or running.
+	 */
+	static class TaskCounter {
+
+		final AtomicInteger queued = new AtomicInteger();
+
+		final AtomicInteger running = new AtomicInteger();
+
+		Executor counting(Executor executor) {
+			return task -> {
+				queued.incrementAndGet();
+
+				try {
+					executor.execute(() -> {
+						queued.decrementAndGet();
+						running.incrementAndGet();
+
+						try {
+							task.run();
+						}
+						finally {
+							running.decrementAndGet();
+						}
+					});
+				}
+				catch (RejectedExecutionException e) {
+					queued.decrementAndGet();
+					throw e;
+				}
+			};
+		}
+
+	}
+
+	Report drive(DtsHealthEndpoint dtsHealthEndpoint, List<StubDependencyServer> stubDependencyServers, TaskCounter taskCounter, AutoCloseable resources) throws Exception {
+		final var threadMXBean = ManagementFactory.getThreadMXBean();
+		final var initialThreads = threadMXBean.getThreadCount();
+		threadMXBean.resetPeakThreadCount();
+
+		final var latenciesNanos = new ConcurrentLinkedQueue<Long>();
+		final var failed = new AtomicInteger();
+		final var requests = RATE * DURATION_SECONDS;
+
+		try (var clients = Executors.newVirtualThreadPerTaskExecutor()) {
+			final var startNanos = System.nanoTime();
+			final var periodNanos = NANOSECONDS.convert(1, SECONDS) / RATE;
+
+			for (int i = 0; i < requests; i++) {
+				// latency is measured from the intended start time, so that a stalled endpoint is not hidden by a stalled client
+				final var intendedStartNanos = startNanos + i * periodNanos;
+				final var delayNanos = intendedStartNanos - System.nanoTime();
+				if (delayNanos > 0) { NANOSECONDS.sleep(delayNanos); }
+
+				clients.submit(() -> {
+					try {
+						dtsHealthEndpoint.health(SecurityContext.NONE, HealthResultFormat.JSON, null, null, null, null);
+					}
+					catch (RuntimeException e) {
+						failed.incrementAndGet();
+					}
+					finally {
+						latenciesNanos.add(System.nanoTime() - intendedStartNanos);
+					}
+				});
+			}
+		}
+
+		final var peakThreads = threadMXBean.getPeakThreadCount();
+
+		// give abandoned checks a chance to return before counting what was left behind
+		MILLISECONDS.sleep(2 * TIMEOUT_MILLIS);
+
+		// counted before the resources are closed, since closing an executor discards its queued tasks
+		final var leakedRunningTasks = taskCounter.running.get();
+		final var leakedQueuedTasks = taskCounter.queued.get();
+		final var dependencyInFlight = stubDependencyServers.stream().mapToInt(StubDependencyServer::getInFlight).sum();
+
+		resources.close();
+
+		final var sortedLatenciesNanos = latenciesNanos.stream().mapToLong(Long::longValue).sorted().toArray();
+
+		return new Report(requests, failed.get(),
+				percentileMillis(sortedLatenciesNanos, 0.50),
+				percentileMillis(sortedLatenciesNanos, 0.99),
+				percentileMillis(sortedLatenciesNanos, 1.00),
+				peakThreads,
+				Math.max(0, threadMXBean.getThreadCount() - initialThreads),
+				leakedRunningTasks,
+				leakedQueuedTasks,
+				dependencyInFlight);
+	}
+
+	List<StubDependencyServer> startStubDependencyServers() throws IOException {
+		final var faultProfiles = List.of(FaultProfile.healthy(), FaultProfile.heavyTailed(), FaultProfile.flaky(), FaultProfile.hanging());
+		final var stubDependencyServers = new ArrayList<StubDependencyServer>();
+
+		for (int i = 0; i < DEPENDENCIES; i++) {
+			stubDependencyServers.add(new StubDependencyServer(faultProfiles.get(i % faultProfiles.size())));
+		}
+
+		return stubDependencyServers;
+	}
+
+	static long percentileMillis(long[] sortedNanos, double percentile) {
+		if (sortedNanos.length == 0) { return 0; }
+
+		final var index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+		return MILLISECONDS.convert(sortedNanos[Math.max(0, index)], NANOSECONDS);
+	}
+
+}
@@ -0,0 +1,113 @@
+package io.github.dtsstn.health.load;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * A stand-in for a dependency's health endpoint on localhost, with configurable latency and fault injection.
+ *
+ * <p>Latency follows a Pareto distribution with the given median, so that a small share of requests takes many times
+ * longer than the median, as dependencies behind their own load balancers do.</p>
+ */
+class StubDependencyServer implements AutoCloseable {
+
+	/**
+	 * The behaviour of a stub dependency.
+	 *
+	 * @param medianLatencyMillis the median response time
+	 * @param tailIndex the Pareto shape of the latency distribution; the smaller, the heavier the tail
+	 * @param failureRate the share of requests answered with HTTP 500
+	 * @param hangRate the share of requests that hang for {@code hangMillis}
+	 * @param hangMillis how long a hanging request hangs
+	 */
+	record FaultProfile(long medianLatencyMillis, double tailIndex, double failureRate, double hangRate, long hangMillis) {
+
+		static FaultProfile healthy() {
+			return new FaultProfile(2, 3.0, 0, 0, 0);
+		}
+
+		static FaultProfile heavyTailed() {
+			return new FaultProfile(20, 1.2, 0, 0, 0);
+		}
+
+		static FaultProfile flaky() {
+			return new FaultProfile(10, 2.0, 0.2, 0, 0);
+		}
+
+		static FaultProfile hanging() {
+			return new FaultProfile(10, 2.0, 0, 0.1, 30_000);
+		}
+
+	}
+
+	static final long MAX_LATENCY_MILLIS = 60_000;
+
+	private final HttpServer httpServer;
+
+	private final FaultProfile faultProfile;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	StubDependencyServer(FaultProfile faultProfile) throws IOException {
+		this.faultProfile = faultProfile;
+		this.httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+		this.httpServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+		this.httpServer.createContext("/health", this::handle);
+		this.httpServer.start();
+	}
+
+	URI getUri() {
+		return URI.create("http://localhost:" + httpServer.getAddress().getPort() + "/health");
+	}
+
+	/**
+	 * Returns the number of requests being processed, including those the client has given up on.
+	 */
+	int getInFlight() {
+		return inFlight.get();
+	}
+
+	@Override
+	public void close() {
+		httpServer.stop(0);
+	}
+
+	void handle(HttpExchange exchange) throws IOException {
+		inFlight.incrementAndGet();
+
+		try {
+			final var random = ThreadLocalRandom.current();
+
+			sleep(random.nextDouble() < faultProfile.hangRate() ? faultProfile.hangMillis() : latencyMillis(random));
+
+			exchange.sendResponseHeaders(random.nextDouble() < faultProfile.failureRate() ? 500 : 200, -1);
+			exchange.close();
+		}
+		finally {
+			inFlight.decrementAndGet();
+		}
+	}
+
+	long latencyMillis(ThreadLocalRandom random) {
+		// the median of a Pareto distribution with scale x is x * 2^(1/a)
+		final var scale = faultProfile.medianLatencyMillis() / Math.pow(2, 1 / faultProfile.tailIndex());
+		return (long) Math.min(MAX_LATENCY_MILLIS, scale / Math.pow(1 - random.nextDouble(), 1 / faultProfile.tailIndex()));
+	}
+
+	static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,202 @@
+package io.github.dtsstn.health.remote;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.base.Stopwatch;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.github.dtsstn.health.core.HealthResult;
+import io.github.dtsstn.health.core.HealthResult.ComponentHealthResult;
+import io.github.dtsstn.health.core.HealthResult.Status;
+import io.github.dtsstn.health.core.HealthResultCodec;
+import io.github.dtsstn.health.core.ImmutableComponentHealthResult;
+import io.github.dtsstn.health.core.ImmutableHealthCheckOptions;
+import io.github.dtsstn.health.core.ImmutableHealthResult;
+
+class FleetHealthAggregatorTest {
+
+	final HealthResultCodec healthResultCodec = new HealthResultCodec();
+
+	final HttpClient httpClient = HttpClient.newHttpClient();
+
+	final AtomicInteger inFlight = new AtomicInteger();
+
+	final AtomicInteger maxInFlight = new AtomicInteger();
+
+	HttpServer httpServer;
+
+	@BeforeEach
+	void beforeEach() throws IOException {
+		this.httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		this.httpServer.setExecutor(Executors.newCachedThreadPool());
+		this.httpServer.createContext("/healthy", exchange -> respond(exchange, Status.HEALTHY, true));
+		this.httpServer.createContext("/unhealthy", exchange -> respond(exchange, Status.UNHEALTHY, true));
+		this.httpServer.createContext("/json", exchange -> respond(exchange, Status.HEALTHY, false));
+		this.httpServer.createContext("/slow", exchange -> {
+			sleep(2000);
+			respond(exchange, Status.HEALTHY, true);
+		});
+		this.httpServer.start();
+	}
+
+	@AfterEach
+	void afterEach() {
+		httpServer.stop(0);
+	}
+
+	@Test
+	void testAggregate_ManyHealthyTargets() {
+		final var targets = IntStream.range(0, 200)
+				.mapToObj(i -> remoteHealthCheck("target" + i, "/healthy"))
+				.toList();
+
+		final var result = new FleetHealthAggregator(16).aggregate(targets, ImmutableHealthCheckOptions.builder()
+				.timeoutMillis(10000)
+				.includeDetails(false)
+				.build());
+
+		assertThat(result.getStatus()).isEqualTo(Status.HEALTHY);
+		assertThat(result.getComponents()).hasSize(200);
+		assertThat(maxInFlight.get()).isLessThanOrEqualTo(16);
+	}
+
+	@Test
+	void testAggregate_MixedTargets() {
+		final var targets = List.of(
+				remoteHealthCheck("healthy", "/healthy"),
+				remoteHealthCheck("unhealthy", "/unhealthy"),
+				remoteHealthCheck("json", "/json"),
+				remoteHealthCheck("slow", "/slow"));
+
+		final var result = new FleetHealthAggregator(4).aggregate(targets, ImmutableHealthCheckOptions.builder()
+				.timeoutMillis(500)
+				.includeDetails(true)
+				.build());
+
+		assertThat(result.getStatus()).isEqualTo(Status.UNHEALTHY);
+		assertThat(result.getComponents())
+				.extracting(ComponentHealthResult::getName, ComponentHealthResult::getStatus)
+				.containsExactly(
+						tuple("healthy", ComponentHealthResult.Status.HEALTHY),
+						tuple("unhealthy", ComponentHealthResult.Status.UNHEALTHY),
+						tuple("json", ComponentHealthResult.Status.HEALTHY),
+						tuple("slow", ComponentHealthResult.Status.TIMEDOUT));
+		assertThat(result.getComponents().iterator().next().getMetadata())
+				.containsEntry("version", "1.0.0")
+				.containsEntry("components.db", "HEALTHY");
+	}
+
+	@Test
+	void testAggregate_ManyTargetsFailingImmediately() {
+		// requests for an unsupported scheme cannot be built, so they fail on the dispatching thread
+		final var targets = IntStream.range(0, 20000)
+				.mapToObj(i -> new RemoteHealthCheck("target" + i, URI.create("ftp://localhost/" + i), Duration.ofSeconds(5), httpClient, healthResultCodec))
+				.toList();
+
+		final var result = new FleetHealthAggregator(4).aggregate(targets, ImmutableHealthCheckOptions.builder()
+				.timeoutMillis(10000)
+				.includeDetails(false)
+				.build());
+
+		assertThat(result.getStatus()).isEqualTo(Status.UNHEALTHY);
+		assertThat(result.getComponents()).hasSize(20000)
+				.allMatch(componentHealthResult -> componentHealthResult.getStatus() == ComponentHealthResult.Status.UNHEALTHY);
+	}
+
+	@Test
+	void testAggregate_BuildResultFails() {
+		final var targets = List.of(remoteHealthCheck("healthy", "/healthy"), remoteHealthCheck("other", "/healthy"));
+
+		final var fleetHealthAggregator = new FleetHealthAggregator(1) {
+
+			@Override
+			protected ComponentHealthResult buildResult(RemoteHealthCheck target, HealthResult healthResult, Throwable throwable, Stopwatch stopwatch, boolean includeDetails) {
+				if (target.getName().equals("healthy")) { throw new IllegalStateException("boom"); }
+				return super.buildResult(target, healthResult, throwable, stopwatch, includeDetails);
+			}
+
+		};
+
+		final var result = fleetHealthAggregator.aggregate(targets, ImmutableHealthCheckOptions.builder()
+				.timeoutMillis(5000)
+				.includeDetails(true)
+				.build());
+
+		assertThat(result.getComponents())
+				.extracting(ComponentHealthResult::getName, ComponentHealthResult::getStatus)
+				.containsExactly(
+						tuple("healthy", ComponentHealthResult.Status.UNHEALTHY),
+						tuple("other", ComponentHealthResult.Status.HEALTHY));
+		assertThat(result.getComponents().iterator().next().getErrorDetails()).contains("boom");
+	}
+
+	@Test
+	void testExecute_UnhealthyTargetThrows() {
+		final var remoteHealthCheck = remoteHealthCheck("unhealthy", "/unhealthy");
+
+		assertThatIllegalStateException()
+				.isThrownBy(remoteHealthCheck::execute)
+				.withMessageContaining("UNHEALTHY");
+	}
+
+	RemoteHealthCheck remoteHealthCheck(String name, String path) {
+		final var uri = URI.create("http://localhost:" + httpServer.getAddress().getPort() + path);
+		return new RemoteHealthCheck(name, uri, Duration.ofSeconds(5), httpClient, healthResultCodec);
+	}
+
+	void respond(HttpExchange exchange, Status status, boolean cbor) throws IOException {
+		maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+		try {
+			final HealthResult healthResult = ImmutableHealthResult.builder()
+					.status(status)
+					.responseTimeMs(1L)
+					.version("1.0.0")
+					.addComponents(ImmutableComponentHealthResult.builder()
+							.name("db")
+							.status(ComponentHealthResult.Status.HEALTHY)
+							.build())
+					.build();
+
+			final byte[] body = cbor
+					? healthResultCodec.encode(healthResult)
+					: "{\"status\":\"%s\",\"responseTimeMs\":1}".formatted(status).getBytes(StandardCharsets.UTF_8);
+
+			exchange.getResponseHeaders().add("Content-Type", cbor ? HealthResult.CBOR_CONTENT_TYPE : HealthResult.CONTENT_TYPE);
+			exchange.sendResponseHeaders(status.getHttpStatus(), body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		}
+		finally {
+			inFlight.decrementAndGet();
+		}
+	}
+
+	static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}